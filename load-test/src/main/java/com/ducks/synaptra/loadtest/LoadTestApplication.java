@@ -0,0 +1,57 @@
+package com.ducks.synaptra.loadtest;
+
+import com.ducks.synaptra.annotation.EnableSynaptraLog;
+import com.ducks.synaptra.loadtest.receiver.OtlpStandInReceiver;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Sample application driving the full Synaptra export pipeline under sustained load.
+ *
+ * <p>The pipeline under test is {@code LogTracerImpl} -> {@code MicrometerSpanManager} -> the
+ * span processor and OTLP exporter configured in {@code TracingConfig} -> an embedded {@link
+ * OtlpStandInReceiver} acting as the collector. The run reports throughput, latency overhead
+ * against an untraced baseline, spans received versus produced, and heap usage.
+ *
+ * <p>Usage (from the repository root):
+ *
+ * <pre>
+ * mvn install
+ * mvn -f load-test/pom.xml spring-boot:run \
+ *     -Dspring-boot.run.arguments="--loadtest.concurrency=500 --loadtest.receiver.latency=50ms"
+ * </pre>
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see LoadTestRunner
+ * @since 1.0.0
+ */
+@SpringBootApplication(scanBasePackages = "com.ducks.synaptra")
+@EnableSynaptraLog
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestApplication {
+
+  /**
+   * Runs the load test and exits once the report has been written.
+   *
+   * @param args application arguments
+   */
+  public static void main(String[] args) {
+    System.exit(SpringApplication.exit(SpringApplication.run(LoadTestApplication.class, args)));
+  }
+
+  /**
+   * Creates and starts the embedded OTLP stand-in receiver.
+   *
+   * @param props load test properties containing the receiver settings
+   * @return started receiver, closed on context shutdown
+   */
+  @Bean(initMethod = "start", destroyMethod = "close")
+  public OtlpStandInReceiver otlpStandInReceiver(LoadTestProperties props) {
+    LoadTestProperties.Receiver receiver = props.getReceiver();
+    return new OtlpStandInReceiver(
+        receiver.getPort(), receiver.getLatency(), receiver.getFailureRate());
+  }
+}
@@ -0,0 +1,70 @@
+package com.ducks.synaptra.loadtest;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the end-to-end load test harness.
+ *
+ * <p>These properties are bound from application configuration files using the prefix {@code
+ * loadtest}.
+ *
+ * <p>Example configuration:
+ *
+ * <pre>
+ * loadtest:
+ *   concurrency: 200
+ *   duration: 60s
+ *   receiver:
+ *     port: 14318
+ *     latency: 50ms
+ *     failure-rate: 0.05
+ * </pre>
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+  /** Number of virtual threads issuing requests concurrently in each phase. */
+  private int concurrency = 200;
+
+  /** Duration of the warm-up phase, whose results are discarded. */
+  private Duration warmup = Duration.ofSeconds(10);
+
+  /** Duration of each measured phase (baseline and traced). */
+  private Duration duration = Duration.ofSeconds(60);
+
+  /** Maximum time to wait for exported spans to reach the receiver after the traced phase. */
+  private Duration drainTimeout = Duration.ofSeconds(30);
+
+  /** Number of messages in each generated request. */
+  private int messageCount = 8;
+
+  /** Size in characters of each generated message. */
+  private int messageSize = 256;
+
+  /** How the embedded collector stand-in behaves; see {@link Receiver}. */
+  private Receiver receiver = new Receiver();
+
+  /** Listening port and simulated degradation (latency, failures) of the OTLP receiver. */
+  @Setter
+  @Getter
+  public static class Receiver {
+
+    /** Port the receiver listens on; the OTLP endpoint must point to it. */
+    private int port = 14318;
+
+    /** Artificial latency added to every export request. */
+    private Duration latency = Duration.ZERO;
+
+    /** Fraction of export requests, between 0 and 1, answered with HTTP 503. */
+    private double failureRate;
+  }
+}
@@ -0,0 +1,206 @@
+package com.ducks.synaptra.loadtest;
+
+import com.ducks.synaptra.loadtest.driver.HeapSampler;
+import com.ducks.synaptra.loadtest.driver.LoadDriver;
+import com.ducks.synaptra.loadtest.driver.PhaseResult;
+import com.ducks.synaptra.loadtest.receiver.OtlpStandInReceiver;
+import com.ducks.synaptra.loadtest.workload.ChatRequest;
+import com.ducks.synaptra.loadtest.workload.TracedWorkload;
+import com.ducks.synaptra.loadtest.workload.WorkloadLogic;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the load phases and writes the report.
+ *
+ * <p>The run consists of:
+ *
+ * <ol>
+ *   <li>A warm-up phase over both the baseline and traced paths, whose results are discarded
+ *   <li>A baseline phase calling {@link WorkloadLogic} directly, without tracing
+ *   <li>A traced phase calling {@link TracedWorkload}, exporting every span
+ *   <li>A drain phase flushing the exporter and waiting for spans to reach the receiver
+ * </ol>
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationRunner {
+
+  private static final Logger LOGGER = LogManager.getLogger(LoadTestRunner.class);
+
+  private static final Duration HEAP_SAMPLE_INTERVAL = Duration.ofMillis(100);
+  private static final Duration DRAIN_POLL_INTERVAL = Duration.ofMillis(200);
+  private static final double BYTES_PER_MIB = 1024d * 1024d;
+  private static final String[] MODELS = {"gpt-4o", "claude-sonnet", "llama-3-70b"};
+
+  private final LoadTestProperties props;
+  private final TracedWorkload tracedWorkload;
+  private final WorkloadLogic workloadLogic;
+  private final OtlpStandInReceiver receiver;
+  private final OpenTelemetry openTelemetry;
+
+  /** {@inheritDoc} */
+  @Override
+  public void run(ApplicationArguments args) throws InterruptedException {
+    LoadDriver driver = new LoadDriver(props.getConcurrency());
+
+    LOGGER.info("Warming up for {}", props.getWarmup());
+    Duration halfWarmup = props.getWarmup().dividedBy(2);
+    driver.run("warmup-baseline", halfWarmup, this::callBaseline);
+    PhaseResult warmup = driver.run("warmup-traced", halfWarmup, this::callTraced);
+
+    try (HeapSampler heap = new HeapSampler()) {
+      heap.start(HEAP_SAMPLE_INTERVAL);
+
+      LOGGER.info("Running baseline phase for {}", props.getDuration());
+      PhaseResult baseline = driver.run("baseline", props.getDuration(), this::callBaseline);
+      long baselinePeakHeap = heap.getPeakUsedBytes();
+
+      LOGGER.info("Running traced phase for {}", props.getDuration());
+      PhaseResult traced = driver.run("traced", props.getDuration(), this::callTraced);
+
+      long produced = (warmup.requests() + traced.requests()) * TracedWorkload.SPANS_PER_REQUEST;
+      Duration drained = drain(produced);
+
+      report(baseline, traced, produced, drained, baselinePeakHeap, heap);
+    }
+  }
+
+  private Object callBaseline() {
+    ChatRequest request = nextRequest();
+    return workloadLogic.generate(request, workloadLogic.retrieve(request));
+  }
+
+  private Object callTraced() {
+    return tracedWorkload.handle(nextRequest());
+  }
+
+  private ChatRequest nextRequest() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<String> messages = new ArrayList<>(props.getMessageCount());
+    for (int i = 0; i < props.getMessageCount(); i++) {
+      messages.add(randomText(random, props.getMessageSize()));
+    }
+    return new ChatRequest(
+        MODELS[random.nextInt(MODELS.length)], messages, "user-" + random.nextInt(10_000));
+  }
+
+  private static String randomText(ThreadLocalRandom random, int length) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Flushes the exporter and waits until all produced spans arrive or the drain timeout elapses.
+   *
+   * @param produced number of spans produced
+   * @return time spent draining
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private Duration drain(long produced) throws InterruptedException {
+    long start = System.nanoTime();
+    long deadline = start + props.getDrainTimeout().toNanos();
+
+    if (openTelemetry instanceof OpenTelemetrySdk sdk) {
+      sdk.getSdkTracerProvider()
+          .forceFlush()
+          .join(props.getDrainTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+    while (receiver.getSpansReceived() < produced && System.nanoTime() < deadline) {
+      Thread.sleep(DRAIN_POLL_INTERVAL);
+    }
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  private void report(
+      PhaseResult baseline,
+      PhaseResult traced,
+      long produced,
+      Duration drained,
+      long baselinePeakHeap,
+      HeapSampler heap) {
+    long received = receiver.getSpansReceived();
+    StringBuilder report = new StringBuilder(1024);
+    report.append(System.lineSeparator()).append("===== Synaptra load test report =====");
+    line(report, "concurrency", props.getConcurrency());
+    line(
+        report,
+        "receiver",
+        "latency=%s failureRate=%.3f"
+            .formatted(props.getReceiver().getLatency(), props.getReceiver().getFailureRate()));
+    phase(report, baseline);
+    phase(report, traced);
+    line(
+        report,
+        "throughput cost",
+        "%.1f%%".formatted(100 * (1 - traced.throughput() / baseline.throughput())));
+    line(
+        report,
+        "p50 overhead",
+        "%.1f us".formatted(traced.percentileMicros(50) - baseline.percentileMicros(50)));
+    line(
+        report,
+        "p99 overhead",
+        "%.1f us".formatted(traced.percentileMicros(99) - baseline.percentileMicros(99)));
+    line(report, "spans produced", produced);
+    line(
+        report,
+        "spans received",
+        "%d (%.2f%%, missing %d)"
+            .formatted(
+                received, produced > 0 ? 100d * received / produced : 0, produced - received));
+    line(report, "drain time", drained);
+    line(
+        report,
+        "export requests",
+        "%d (rejected %d, %.1f MiB)"
+            .formatted(
+                receiver.getRequests(),
+                receiver.getRejectedRequests(),
+                receiver.getBytesReceived() / BYTES_PER_MIB));
+    line(report, "peak heap baseline", "%.1f MiB".formatted(baselinePeakHeap / BYTES_PER_MIB));
+    line(
+        report, "peak heap overall", "%.1f MiB".formatted(heap.getPeakUsedBytes() / BYTES_PER_MIB));
+    line(report, "heap after gc", "%.1f MiB".formatted(heap.usedAfterGc() / BYTES_PER_MIB));
+    LOGGER.info("{}", report);
+  }
+
+  private static void phase(StringBuilder report, PhaseResult result) {
+    line(
+        report,
+        result.name(),
+        "%d req, %d err, %.0f req/s, p50=%.1f us, p99=%.1f us, p99.9=%.1f us"
+            .formatted(
+                result.requests(),
+                result.errors(),
+                result.throughput(),
+                result.percentileMicros(50),
+                result.percentileMicros(99),
+                result.percentileMicros(99.9)));
+  }
+
+  private static void line(StringBuilder report, String label, Object value) {
+    report
+        .append(System.lineSeparator())
+        .append("%-20s: ".formatted(label))
+        .append(value);
+  }
+}
@@ -0,0 +1,65 @@
+package com.ducks.synaptra.loadtest.driver;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically samples heap usage to track the peak during a load run.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class HeapSampler implements AutoCloseable {
+
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+  private final AtomicLong peakUsedBytes = new AtomicLong();
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> Thread.ofPlatform().daemon().name("heap-sampler").unstarted(runnable));
+
+  /**
+   * Starts sampling at the given interval.
+   *
+   * @param interval the sampling interval
+   */
+  public void start(Duration interval) {
+    scheduler.scheduleAtFixedRate(this::sample, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the highest heap usage observed so far.
+   *
+   * @return peak used heap in bytes
+   */
+  public long getPeakUsedBytes() {
+    return peakUsedBytes.get();
+  }
+
+  /**
+   * Returns the current heap usage after requesting a garbage collection.
+   *
+   * <p>The collection is only a hint to the JVM, so the value approximates the retained heap.
+   *
+   * @return used heap in bytes
+   */
+  public long usedAfterGc() {
+    memory.gc();
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  /** Stops sampling. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void sample() {
+    peakUsedBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+  }
+}
@@ -0,0 +1,121 @@
+package com.ducks.synaptra.loadtest.driver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop concurrent load driver running on virtual threads.
+ *
+ * <p>Each of the configured workers repeatedly issues a request and records its latency until the
+ * phase duration elapses. Latencies are recorded per worker without synchronization and merged
+ * once the phase ends.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see PhaseResult
+ * @since 1.0.0
+ */
+public final class LoadDriver {
+
+  private static final int INITIAL_LATENCY_CAPACITY = 1 << 12;
+
+  private final int concurrency;
+
+  /**
+   * Creates a new LoadDriver.
+   *
+   * @param concurrency number of concurrent workers
+   */
+  public LoadDriver(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be at least 1");
+    }
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Runs a load phase.
+   *
+   * @param name the phase name
+   * @param duration how long to issue requests
+   * @param call the request to issue; a thrown exception counts as an error
+   * @return the phase outcome
+   * @throws InterruptedException if interrupted while waiting for workers
+   */
+  public PhaseResult run(String name, Duration duration, Supplier<?> call)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    long deadline = start + duration.toNanos();
+
+    List<Future<Worker>> futures = new ArrayList<>(concurrency);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(executor.submit(() -> new Worker().run(deadline, call)));
+      }
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    List<Worker> workers = new ArrayList<>(concurrency);
+    long errors = 0;
+    int requests = 0;
+    for (Future<Worker> future : futures) {
+      Worker worker = await(future);
+      workers.add(worker);
+      requests += worker.count;
+      errors += worker.errors;
+    }
+
+    long[] latencies = new long[requests];
+    int offset = 0;
+    for (Worker worker : workers) {
+      System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+      offset += worker.count;
+    }
+    Arrays.sort(latencies);
+
+    return new PhaseResult(name, requests, errors, elapsed, latencies);
+  }
+
+  private static Worker await(Future<Worker> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Load worker failed", e.getCause());
+    }
+  }
+
+  /** Per-worker latency recorder. */
+  private static final class Worker {
+
+    private long[] latencies = new long[INITIAL_LATENCY_CAPACITY];
+    private int count;
+    private long errors;
+
+    private Worker run(long deadline, Supplier<?> call) {
+      while (System.nanoTime() < deadline) {
+        long begin = System.nanoTime();
+        try {
+          call.get();
+        } catch (RuntimeException e) {
+          errors++;
+        }
+        record(System.nanoTime() - begin);
+      }
+      return this;
+    }
+
+    private void record(long latencyNanos) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.ducks.synaptra.loadtest.driver;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one load phase.
+ *
+ * @param name the phase name
+ * @param requests number of completed requests, including failed ones
+ * @param errors number of requests that threw an exception
+ * @param elapsed wall-clock duration of the phase
+ * @param latenciesNanos per-request latencies in nanoseconds, sorted ascending
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record PhaseResult(
+    String name, long requests, long errors, Duration elapsed, long[] latenciesNanos) {
+
+  private static final double NANOS_PER_MICRO = 1_000d;
+
+  /**
+   * Returns the throughput of the phase.
+   *
+   * @return requests per second
+   */
+  public double throughput() {
+    double seconds = elapsed.toNanos() / 1_000_000_000d;
+    return seconds > 0 ? requests / seconds : 0;
+  }
+
+  /**
+   * Returns a latency percentile using the nearest-rank method.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return latency in microseconds, or 0 if no request completed
+   */
+  public double percentileMicros(double percentile) {
+    if (latenciesNanos.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * latenciesNanos.length);
+    int index = Math.min(Math.max(rank - 1, 0), latenciesNanos.length - 1);
+    return latenciesNanos[index] / NANOS_PER_MICRO;
+  }
+}
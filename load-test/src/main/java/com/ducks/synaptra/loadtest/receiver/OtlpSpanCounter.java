@@ -0,0 +1,123 @@
+package com.ducks.synaptra.loadtest.receiver;
+
+/**
+ * Counts spans in an OTLP {@code ExportTraceServiceRequest} protobuf payload.
+ *
+ * <p>Walks the protobuf wire format directly instead of depending on generated OTLP classes. Only
+ * the nesting needed for counting is decoded:
+ *
+ * <pre>
+ * ExportTraceServiceRequest.resource_spans (1)
+ *   -> ResourceSpans.scope_spans (2)
+ *     -> ScopeSpans.spans (2)
+ * </pre>
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class OtlpSpanCounter {
+
+  private static final int RESOURCE_SPANS_FIELD = 1;
+  private static final int SCOPE_SPANS_FIELD = 2;
+  private static final int SPANS_FIELD = 2;
+
+  private static final int WIRE_VARINT = 0;
+  private static final int WIRE_FIXED64 = 1;
+  private static final int WIRE_LENGTH_DELIMITED = 2;
+  private static final int WIRE_FIXED32 = 5;
+
+  private OtlpSpanCounter() {}
+
+  /**
+   * Counts the spans contained in a serialized export request.
+   *
+   * @param body the protobuf-encoded {@code ExportTraceServiceRequest}
+   * @return number of spans in the request
+   * @throws IllegalArgumentException if the payload is not valid protobuf
+   */
+  public static long countSpans(byte[] body) {
+    long spans = 0;
+    Reader request = new Reader(body, 0, body.length);
+    while (request.hasMore()) {
+      Reader resourceSpans = request.nextMessage(RESOURCE_SPANS_FIELD);
+      while (resourceSpans != null && resourceSpans.hasMore()) {
+        Reader scopeSpans = resourceSpans.nextMessage(SCOPE_SPANS_FIELD);
+        while (scopeSpans != null && scopeSpans.hasMore()) {
+          if (scopeSpans.nextMessage(SPANS_FIELD) != null) {
+            spans++;
+          }
+        }
+      }
+    }
+    return spans;
+  }
+
+  /** Minimal protobuf field reader over a slice of a byte array. */
+  private static final class Reader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    private Reader(byte[] buffer, int offset, int limit) {
+      this.buffer = buffer;
+      this.position = offset;
+      this.limit = limit;
+    }
+
+    private boolean hasMore() {
+      return position < limit;
+    }
+
+    /**
+     * Reads the next field, returning a reader over it if it is the requested embedded message.
+     *
+     * @param fieldNumber the field number of interest
+     * @return reader over the embedded message, or {@code null} if another field was skipped
+     */
+    private Reader nextMessage(int fieldNumber) {
+      long tag = readVarint();
+      int wireType = (int) (tag & 0x7);
+      int number = (int) (tag >>> 3);
+
+      switch (wireType) {
+        case WIRE_VARINT -> readVarint();
+        case WIRE_FIXED64 -> skip(8);
+        case WIRE_FIXED32 -> skip(4);
+        case WIRE_LENGTH_DELIMITED -> {
+          int length = (int) readVarint();
+          int start = position;
+          skip(length);
+          if (number == fieldNumber) {
+            return new Reader(buffer, start, start + length);
+          }
+        }
+        default -> throw new IllegalArgumentException("Unsupported wire type " + wireType);
+      }
+      return null;
+    }
+
+    private long readVarint() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        if (position >= limit) {
+          throw new IllegalArgumentException("Truncated varint");
+        }
+        byte b = buffer[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private void skip(int length) {
+      if (length < 0 || position + length > limit) {
+        throw new IllegalArgumentException("Truncated field");
+      }
+      position += length;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.ducks.synaptra.loadtest.receiver;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Embedded HTTP server standing in for an OTLP collector.
+ *
+ * <p>Accepts OTLP/HTTP protobuf trace exports on {@code /v1/traces}, counts the spans received and
+ * can simulate a degraded collector through:
+ *
+ * <ul>
+ *   <li>A fixed artificial latency added to every export request
+ *   <li>A failure rate of requests answered with HTTP 503 (retryable for OTLP exporters)
+ * </ul>
+ *
+ * <p>Requests are handled on virtual threads so that artificial latency does not limit how many
+ * exports can be in flight.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see OtlpSpanCounter
+ * @since 1.0.0
+ */
+public class OtlpStandInReceiver implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger(OtlpStandInReceiver.class);
+
+  private static final String TRACES_PATH = "/v1/traces";
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String PROTOBUF_CONTENT_TYPE = "application/x-protobuf";
+  private static final String GZIP_ENCODING = "gzip";
+  private static final int STATUS_OK = 200;
+  private static final int STATUS_BAD_REQUEST = 400;
+  private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+  private static final int STATUS_UNAVAILABLE = 503;
+  private static final int NO_RESPONSE_BODY = -1;
+
+  private final int port;
+  private final Duration latency;
+  private final double failureRate;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong rejectedRequests = new AtomicLong();
+  private final AtomicLong bytesReceived = new AtomicLong();
+  private final AtomicLong spansReceived = new AtomicLong();
+
+  private HttpServer server;
+  private ExecutorService executor;
+
+  /**
+   * Creates a new receiver; call {@link #start()} to begin listening.
+   *
+   * @param port the port to listen on
+   * @param latency artificial latency added to every export request
+   * @param failureRate fraction of export requests, between 0 and 1, answered with HTTP 503
+   */
+  public OtlpStandInReceiver(int port, Duration latency, double failureRate) {
+    if (failureRate < 0 || failureRate > 1) {
+      throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+    }
+    this.port = port;
+    this.latency = latency;
+    this.failureRate = failureRate;
+  }
+
+  /**
+   * Starts listening for export requests.
+   *
+   * @throws IOException if the server socket cannot be bound
+   */
+  public void start() throws IOException {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    server = HttpServer.create(new InetSocketAddress(port), 0);
+    server.createContext(TRACES_PATH, this::handle);
+    server.setExecutor(executor);
+    server.start();
+    LOGGER.info(
+        "OTLP stand-in receiver listening on port {} (latency={}, failureRate={})",
+        port,
+        latency,
+        failureRate);
+  }
+
+  /** Stops the server and its request executor. */
+  @Override
+  public void close() {
+    if (server != null) {
+      server.stop(0);
+    }
+    if (executor != null) {
+      executor.close();
+    }
+  }
+
+  /**
+   * Returns the number of export requests received, including rejected ones.
+   *
+   * @return export request count
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  /**
+   * Returns the number of export requests answered with a simulated failure.
+   *
+   * @return rejected export request count
+   */
+  public long getRejectedRequests() {
+    return rejectedRequests.get();
+  }
+
+  /**
+   * Returns the total payload bytes received, as sent on the wire.
+   *
+   * @return received byte count
+   */
+  public long getBytesReceived() {
+    return bytesReceived.get();
+  }
+
+  /**
+   * Returns the number of spans accepted; spans in rejected requests are not counted.
+   *
+   * @return accepted span count
+   */
+  public long getSpansReceived() {
+    return spansReceived.get();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(STATUS_METHOD_NOT_ALLOWED, NO_RESPONSE_BODY);
+        return;
+      }
+
+      byte[] body = exchange.getRequestBody().readAllBytes();
+      requests.incrementAndGet();
+      bytesReceived.addAndGet(body.length);
+
+      sleep(latency);
+
+      if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+        rejectedRequests.incrementAndGet();
+        exchange.sendResponseHeaders(STATUS_UNAVAILABLE, NO_RESPONSE_BODY);
+        return;
+      }
+
+      try {
+        spansReceived.addAndGet(OtlpSpanCounter.countSpans(decode(exchange, body)));
+      } catch (IllegalArgumentException e) {
+        LOGGER.warn("Rejected malformed OTLP payload: {}", e.getMessage());
+        exchange.sendResponseHeaders(STATUS_BAD_REQUEST, NO_RESPONSE_BODY);
+        return;
+      }
+
+      // An empty body is a valid, fully successful ExportTraceServiceResponse
+      exchange.getResponseHeaders().set(CONTENT_TYPE, PROTOBUF_CONTENT_TYPE);
+      exchange.sendResponseHeaders(STATUS_OK, NO_RESPONSE_BODY);
+    }
+  }
+
+  private byte[] decode(HttpExchange exchange, byte[] body) throws IOException {
+    if (!GZIP_ENCODING.equalsIgnoreCase(exchange.getRequestHeaders().getFirst(CONTENT_ENCODING))) {
+      return body;
+    }
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    if (duration.isZero() || duration.isNegative()) {
+      return;
+    }
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
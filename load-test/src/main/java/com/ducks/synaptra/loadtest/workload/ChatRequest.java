@@ -0,0 +1,15 @@
+package com.ducks.synaptra.loadtest.workload;
+
+import java.util.List;
+
+/**
+ * Synthetic chat completion request driven through the traced workload.
+ *
+ * @param model the model name
+ * @param messages the conversation messages
+ * @param userId the calling user
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ChatRequest(String model, List<String> messages, String userId) {}
@@ -0,0 +1,13 @@
+package com.ducks.synaptra.loadtest.workload;
+
+/**
+ * Synthetic chat completion response produced by the workload.
+ *
+ * @param model the model name
+ * @param content the generated content
+ * @param tokens the number of generated tokens
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ChatResponse(String model, String content, int tokens) {}
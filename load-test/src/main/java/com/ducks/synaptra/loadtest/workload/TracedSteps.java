@@ -0,0 +1,46 @@
+package com.ducks.synaptra.loadtest.workload;
+
+import com.ducks.synaptra.log.LogTracer;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Traced child steps of the workload.
+ *
+ * <p>Kept in a separate bean from {@link TracedWorkload} so that calls go through the Spring proxy
+ * and produce child spans.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TracedSteps {
+
+  private final WorkloadLogic logic;
+
+  /**
+   * Traced retrieval step; logs the full request.
+   *
+   * @param request the chat request
+   * @return retrieved documents
+   */
+  @LogTracer(spanName = "loadtest.retrieve")
+  public List<String> retrieve(ChatRequest request) {
+    return logic.retrieve(request);
+  }
+
+  /**
+   * Traced generation step; logs the full input and output.
+   *
+   * @param request the chat request
+   * @param documents the retrieved context documents
+   * @return generated response
+   */
+  @LogTracer(spanName = "loadtest.generate", logOutput = true)
+  public ChatResponse generate(ChatRequest request, List<String> documents) {
+    return logic.generate(request, documents);
+  }
+}
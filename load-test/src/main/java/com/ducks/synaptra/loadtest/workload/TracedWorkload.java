@@ -0,0 +1,38 @@
+package com.ducks.synaptra.loadtest.workload;
+
+import com.ducks.synaptra.log.LogTracer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Traced entry point of the workload.
+ *
+ * <p>Each call produces {@value #SPANS_PER_REQUEST} spans: the root span of {@link
+ * #handle(ChatRequest)} and one child span for each step in {@link TracedSteps}.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TracedWorkload {
+
+  /** Number of spans produced by one call to {@link #handle(ChatRequest)}. */
+  public static final int SPANS_PER_REQUEST = 3;
+
+  private final TracedSteps steps;
+
+  /**
+   * Handles a request through the traced steps.
+   *
+   * @param request the chat request
+   * @return generated response
+   */
+  @LogTracer(
+      spanName = "loadtest.handle",
+      captureFields = {"request.model", "request.messages.size()", "request.userId"})
+  public ChatResponse handle(ChatRequest request) {
+    return steps.generate(request, steps.retrieve(request));
+  }
+}
@@ -0,0 +1,59 @@
+package com.ducks.synaptra.loadtest.workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Untraced business logic shared by the baseline and traced workloads.
+ *
+ * <p>Performs a small, deterministic amount of CPU work per step so that the baseline phase has a
+ * realistic cost to compare the tracing overhead against.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class WorkloadLogic {
+
+  private static final int RETRIEVED_DOCUMENTS = 3;
+
+  /**
+   * Simulates retrieval of context documents for a request.
+   *
+   * @param request the chat request
+   * @return retrieved documents
+   */
+  public List<String> retrieve(ChatRequest request) {
+    List<String> documents = new ArrayList<>(RETRIEVED_DOCUMENTS);
+    int seed = digest(request.messages());
+    for (int i = 0; i < RETRIEVED_DOCUMENTS; i++) {
+      documents.add("doc-" + Integer.toHexString(seed + i));
+    }
+    return documents;
+  }
+
+  /**
+   * Simulates generation of a response from a request and its context.
+   *
+   * @param request the chat request
+   * @param documents the retrieved context documents
+   * @return generated response
+   */
+  public ChatResponse generate(ChatRequest request, List<String> documents) {
+    int digest = digest(request.messages()) ^ digest(documents);
+    String content = "answer-" + Integer.toHexString(digest);
+    return new ChatResponse(request.model(), content, request.messages().size() * 16);
+  }
+
+  private static int digest(List<String> values) {
+    int hash = 17;
+    for (String value : values) {
+      for (int i = 0; i < value.length(); i++) {
+        hash = 31 * hash + value.charAt(i);
+      }
+    }
+    return hash;
+  }
+}
@@ -1,15 +1,23 @@
 package com.ducks.synaptra.config;
 
+import com.ducks.synaptra.log.export.ByteBudgetSpanProcessor;
+import com.ducks.synaptra.log.logging.LogExporter;
 import com.ducks.synaptra.properties.SynaptraLogProperties;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.exporter.otlp.http.logs.OtlpHttpLogRecordExporter;
 import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.OpenTelemetrySdkBuilder;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -21,8 +29,9 @@ import org.springframework.context.annotation.Configuration;
  * <ul>
  *   <li>OTLP HTTP span exporter for sending traces to Jaeger or compatible backends
  *   <li>Resource attributes including service name
- *   <li>Batch span processor for efficient trace export
+ *   <li>Batch span processor for efficient trace export, optionally byte-budgeted
  *   <li>Tracer instance for creating spans in application code
+ *   <li>Optionally, an OTLP HTTP log record exporter with a bounded batch processor
  * </ul>
  *
  * <p>Configuration properties are read from {@link SynaptraLogProperties}:
@@ -31,6 +40,8 @@ import org.springframework.context.annotation.Configuration;
  *   <li>{@code synaptra.logging.jaegerEndpoint} - OTLP endpoint URL
  *   <li>{@code synaptra.logging.serviceName} - Service name for resource attributes
  *   <li>{@code synaptra.logging.scopeName} - Tracer scope/instrumentation name
+ *   <li>{@code synaptra.logging.spanQueue.*} - Span buffering and export batching
+ *   <li>{@code synaptra.logging.logs.*} - Log record destination and export batching
  * </ul>
  *
  * @author Leandro Marques
@@ -44,6 +55,12 @@ public class TracingConfig {
   /** OpenTelemetry resource attribute key for service name. */
   private static final String SERVICE_NAME = "service.name";
 
+  /** Queue size of the SDK's count-bounded span processor, which caps its export batch size. */
+  private static final int BATCH_SPAN_QUEUE_SIZE = 2048;
+
+  private static final String TRACES_PATH = "/v1/traces";
+  private static final String LOGS_PATH = "/v1/logs";
+
   /**
    * Creates and configures the OpenTelemetry SDK instance.
    *
@@ -52,7 +69,8 @@ public class TracingConfig {
    * <ul>
    *   <li>OTLP HTTP exporter pointing to the configured Jaeger endpoint
    *   <li>Resource with service name from properties
-   *   <li>Batch span processor for efficient trace export
+   *   <li>Span processor for efficient trace export (byte-budgeted when enabled)
+   *   <li>Logger provider exporting log records over OTLP, when the OTLP log exporter is selected
    * </ul>
    *
    * @param props configuration properties containing Jaeger endpoint and service name
@@ -72,10 +90,99 @@ public class TracingConfig {
     SdkTracerProvider tracerProvider =
         SdkTracerProvider.builder()
             .setResource(resource)
-            .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())
+            .addSpanProcessor(spanProcessor(exporter, props.getSpanQueue()))
             .build();
 
-    return OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+    OpenTelemetrySdkBuilder sdk = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider);
+    if (props.getLogs().getExporter() == LogExporter.OTLP) {
+      sdk.setLoggerProvider(loggerProvider(resource, props));
+    }
+    return sdk.build();
+  }
+
+  /**
+   * Creates the logger provider exporting log records over OTLP HTTP.
+   *
+   * <p>Records are buffered by a {@link BatchLogRecordProcessor} bounded by {@code
+   * logs.maxQueueSize} and sent to the configured or derived logs endpoint.
+   *
+   * @param resource resource shared with the tracer provider
+   * @param props configuration properties containing the endpoint and log batching settings
+   * @return configured logger provider
+   */
+  private static SdkLoggerProvider loggerProvider(Resource resource, SynaptraLogProperties props) {
+    SynaptraLogProperties.Logs logs = props.getLogs();
+    OtlpHttpLogRecordExporter exporter =
+        OtlpHttpLogRecordExporter.builder().setEndpoint(logsEndpoint(props)).build();
+
+    BatchLogRecordProcessor processor =
+        BatchLogRecordProcessor.builder(exporter)
+            .setMaxQueueSize(logs.getMaxQueueSize())
+            .setMaxExportBatchSize(Math.min(logs.getMaxExportBatchSize(), logs.getMaxQueueSize()))
+            .setScheduleDelay(logs.getScheduleDelay())
+            .setExporterTimeout(logs.getExportTimeout())
+            .build();
+
+    return SdkLoggerProvider.builder()
+        .setResource(resource)
+        .addLogRecordProcessor(processor)
+        .build();
+  }
+
+  /**
+   * Resolves the OTLP HTTP endpoint for log records.
+   *
+   * <p>Uses {@code logs.endpoint} when set; otherwise derives it from {@code jaegerEndpoint} by
+   * replacing a trailing {@code /v1/traces} with {@code /v1/logs}, or by appending {@code /v1/logs}
+   * to a base URL.
+   *
+   * @param props configuration properties containing the endpoints
+   * @return logs endpoint URL
+   */
+  private static String logsEndpoint(SynaptraLogProperties props) {
+    String endpoint = props.getLogs().getEndpoint();
+    if (endpoint != null && !endpoint.isBlank()) {
+      return endpoint;
+    }
+
+    String traces = props.getJaegerEndpoint();
+    if (traces.endsWith(TRACES_PATH)) {
+      return traces.substring(0, traces.length() - TRACES_PATH.length()) + LOGS_PATH;
+    }
+    return (traces.endsWith("/") ? traces.substring(0, traces.length() - 1) : traces) + LOGS_PATH;
+  }
+
+  /**
+   * Creates the span processor buffering finished spans for export.
+   *
+   * <p>Uses a {@link ByteBudgetSpanProcessor} bounded by estimated bytes when enabled, so that
+   * heap usage during export backlogs does not depend on payload sizes; otherwise falls back to
+   * the SDK's count-bounded {@link BatchSpanProcessor}, holding up to {@value
+   * #BATCH_SPAN_QUEUE_SIZE} spans. The batching settings apply to both processors.
+   *
+   * @param exporter the exporter receiving batches of spans
+   * @param spanQueue span buffering settings
+   * @return configured span processor
+   */
+  private static SpanProcessor spanProcessor(
+      SpanExporter exporter, SynaptraLogProperties.SpanQueue spanQueue) {
+    if (!spanQueue.isByteBudgetEnabled()) {
+      return BatchSpanProcessor.builder(exporter)
+          .setMaxQueueSize(BATCH_SPAN_QUEUE_SIZE)
+          .setMaxExportBatchSize(
+              Math.min(spanQueue.getMaxExportBatchSize(), BATCH_SPAN_QUEUE_SIZE))
+          .setScheduleDelay(spanQueue.getScheduleDelay())
+          .setExporterTimeout(spanQueue.getExportTimeout())
+          .build();
+    }
+
+    return new ByteBudgetSpanProcessor(
+        exporter,
+        spanQueue.getMaxQueuedBytes().toBytes(),
+        spanQueue.getOverflowPolicy(),
+        spanQueue.getMaxExportBatchSize(),
+        spanQueue.getScheduleDelay(),
+        spanQueue.getExportTimeout());
   }
 
   /**
@@ -0,0 +1,22 @@
+package com.ducks.synaptra.log;
+
+/**
+ * When {@link LogTracer} serializes and logs method payloads.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see LogTracer#captureMode()
+ * @since 1.0.0
+ */
+public enum CaptureMode {
+
+  /** Arguments are serialized before the method runs and the return value right after it. */
+  EAGER,
+
+  /**
+   * Only references to the arguments are held while the method runs; arguments and return value
+   * are serialized and logged only if the method throws or exceeds {@link
+   * LogTracer#slowThresholdMillis()}.
+   */
+  DEFERRED
+}
@@ -9,9 +9,11 @@ import java.lang.annotation.*;
  *
  * <ul>
  *   <li>Creation of an OpenTelemetry span for distributed tracing
- *   <li>Logging of method arguments (if enabled)
+ *   <li>Logging of method arguments (if enabled), either in full or as selected fields
  *   <li>Logging of method return value (if enabled)
  *   <li>Error logging and span error tagging on exceptions
+ *   <li>Optional coalescing of fast invocations into statistics on the parent span
+ *   <li>Optional deferral of payload capture to failed or slow invocations
  * </ul>
  *
  * <p>Example usage:
@@ -23,6 +25,18 @@ import java.lang.annotation.*;
  * }
  * }</pre>
  *
+ * <p>On hot paths, only a few fields of the arguments are usually relevant. Use {@link
+ * #captureFields()} to emit just those values instead of serializing every argument:
+ *
+ * <pre>{@code
+ * @LogTracer(
+ *     spanName = "chat",
+ *     captureFields = {"request.model", "request.messages.size()", "userId"})
+ * public ChatResponse chat(ChatRequest request, String userId) {
+ *     // method implementation
+ * }
+ * }</pre>
+ *
  * @author Leandro Marques
  * @version 1.0.0
  * @see LogTracerImpl
@@ -59,4 +73,80 @@ public @interface LogTracer {
    * @return true if output logging is enabled, false otherwise
    */
   boolean logOutput() default false;
+
+  /**
+   * Field-path expressions selecting which argument values to capture.
+   *
+   * <p>Defaults to an empty array, meaning all arguments are serialized to JSON. When set (and
+   * {@link #logInput()} is enabled), only the selected values are logged and added as span
+   * attributes, replacing the full argument dump.
+   *
+   * <p>Each expression starts with a parameter name (or its zero-based index) followed by optional
+   * dot-separated segments. A segment resolves to a getter ({@code getX()} / {@code isX()}), an
+   * accessor ({@code x()}), or a field, in that order; a segment ending in {@code ()} calls the
+   * no-argument method of that name. Expressions are compiled once per method into method handle
+   * chains, so no reflection happens per call. Intermediate {@code null} values yield {@code null}.
+   *
+   * <p>Referencing parameters by name requires the intercepted class to be compiled with {@code
+   * -parameters} (enabled by default with {@code spring-boot-starter-parent}); otherwise use the
+   * parameter index. Expressions that cannot be resolved are logged once as a warning and skipped.
+   *
+   * <p>Examples: {@code "userId"}, {@code "request.model"}, {@code "request.messages.size()"},
+   * {@code "0.model"}.
+   *
+   * @return field-path expressions to capture, or an empty array to capture all arguments
+   */
+  String[] captureFields() default {};
+
+  /**
+   * Duration threshold, in microseconds, below which successful invocations are coalesced.
+   *
+   * <p>Defaults to {@code 0}, meaning every invocation is exported as its own span. When positive,
+   * invocations running directly under another {@link LogTracer} method on the same thread are
+   * folded into statistics on the parent span (count, total, min, max and error count, as {@code
+   * coalesced.<spanName>.*} attributes), and only failed invocations and those taking at least the
+   * threshold are exported as individual spans.
+   *
+   * <p>Intended for high-frequency leaf methods such as per-token or per-chunk handlers; spans
+   * created inside a coalesced invocation would lose their parent in the exported trace.
+   *
+   * @return coalescing threshold in microseconds, or {@code 0} to disable coalescing
+   */
+  long coalesceBelowMicros() default 0;
+
+  /**
+   * When method payloads are serialized and logged.
+   *
+   * <p>Defaults to {@link CaptureMode#EAGER}. With {@link CaptureMode#DEFERRED}, the inputs (and
+   * output, if {@link #logOutput()} is enabled) are only serialized and logged when the method
+   * throws or takes at least {@link #slowThresholdMillis()}, removing serialization cost from the
+   * fast success path.
+   *
+   * @return the capture mode
+   */
+  CaptureMode captureMode() default CaptureMode.EAGER;
+
+  /**
+   * Latency threshold, in milliseconds, from which a call is considered slow in {@link
+   * CaptureMode#DEFERRED} mode.
+   *
+   * <p>Defaults to {@code 0}, meaning payloads are captured only for failed calls. Ignored in
+   * {@link CaptureMode#EAGER} mode.
+   *
+   * @return slow call threshold in milliseconds, or {@code 0} to capture on errors only
+   */
+  long slowThresholdMillis() default 0;
+
+  /**
+   * Whether to take a defensive snapshot of the arguments in {@link CaptureMode#DEFERRED} mode.
+   *
+   * <p>Defaults to {@code false}, meaning only references are held and arguments mutated by the
+   * method are logged in their final state. When enabled, each argument is copied into a detached
+   * tree (or, with {@link #captureFields()}, the selected fields are read) before the method runs;
+   * this costs a traversal of the argument graph but still skips JSON encoding and logging on the
+   * fast success path. Ignored in {@link CaptureMode#EAGER} mode.
+   *
+   * @return true if arguments are snapshotted before execution, false otherwise
+   */
+  boolean snapshotArgs() default false;
 }
@@ -1,16 +1,21 @@
 package com.ducks.synaptra.log;
 
+import com.ducks.synaptra.log.capture.ArgumentCapturer;
 import com.ducks.synaptra.log.logging.LoggingService;
 import com.ducks.synaptra.log.serializer.JsonSerializer;
+import com.ducks.synaptra.log.tracing.SpanCoalescer;
 import com.ducks.synaptra.log.tracing.SpanManager;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,9 +25,11 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>Automatic span creation and management for distributed tracing
- *   <li>Method argument logging (JSON serialized)
+ *   <li>Method argument logging (JSON serialized, or selected fields only)
  *   <li>Return value logging (JSON serialized)
  *   <li>Exception logging and span error tagging
+ *   <li>Coalescing of fast child invocations into statistics on the parent span
+ *   <li>Deferred payload capture for failed or slow invocations only
  * </ul>
  *
  * <p>The aspect uses AOP (Aspect-Oriented Programming) to wrap method execution without requiring
@@ -48,13 +55,20 @@ public class LogTracerImpl {
 
   private static final String ARGS_EVENT_PREFIX = "args - ";
   private static final String OUTPUT_EVENT_PREFIX = "out - ";
+  private static final String ARGS_ATTRIBUTE_PREFIX = "args.";
 
   /** Service for JSON serialization of method arguments and return values. */
   private final JsonSerializer jsonSerializer;
 
+  /** Service for selective capture of argument fields. */
+  private final ArgumentCapturer argumentCapturer;
+
   /** Service for managing OpenTelemetry spans. */
   private final SpanManager spanManager;
 
+  /** Service for folding fast child spans into statistics on their parent. */
+  private final SpanCoalescer spanCoalescer;
+
   /** Service for structured logging operations. */
   private final LoggingService loggingService;
 
@@ -68,11 +82,15 @@ public class LogTracerImpl {
    *
    * <ol>
    *   <li>Creates a new span with the configured span name
-   *   <li>Logs method arguments if {@code logInput} is enabled
+   *   <li>Logs method arguments (or only the {@code captureFields}) if {@code logInput} is
+   *       enabled, or holds them until completion in {@link CaptureMode#DEFERRED} mode
    *   <li>Executes the target method
-   *   <li>Logs return value if {@code logOutput} is enabled
-   *   <li>Handles exceptions by logging and tagging the span
-   *   <li>Always ends the span in a finally block
+   *   <li>Logs return value if {@code logOutput} is enabled (in deferred mode, together with the
+   *       held arguments, only if the call was slow)
+   *   <li>Handles exceptions by logging any held arguments, logging the error and tagging the span;
+   *       failures while logging the outcome of a successful call are reported the same way, but
+   *       never replace its result
+   *   <li>Always ends (or coalesces) the span in a finally block
    * </ol>
    *
    * @param pjp ProceedingJoinPoint providing access to method execution
@@ -85,32 +103,213 @@ public class LogTracerImpl {
     Logger logger = LogManager.getLogger(pjp.getTarget().getClass());
     String spanName = logTracer.spanName();
     Span span = spanManager.createSpan(spanName);
+    long startNanos = System.nanoTime();
+    boolean failed = false;
+    spanCoalescer.enter(span);
 
     try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+      boolean deferred = logTracer.captureMode() == CaptureMode.DEFERRED;
+      Runnable pendingInput = null;
       if (logTracer.logInput()) {
-        String args = jsonSerializer.toJsonArray(pjp.getArgs());
-        loggingService.logInput(logger, spanName, args);
-        spanManager.addEvent(span, ARGS_EVENT_PREFIX + args);
+        if (deferred) {
+          pendingInput = deferInput(pjp, logTracer, logger, span);
+        } else {
+          logInput(pjp, logTracer, logger, span, pjp.getArgs());
+        }
       }
 
+      Object result;
       try {
-        Object result = pjp.proceed();
-
-        if (logTracer.logOutput()) {
-          String out = jsonSerializer.toJson(result);
-          loggingService.logOutput(logger, spanName, out);
-          spanManager.addEvent(span, OUTPUT_EVENT_PREFIX + out);
-        }
-
-        return result;
-
+        result = pjp.proceed();
       } catch (Throwable ex) {
+        failed = true;
+        runDeferredInput(pendingInput, ex);
         loggingService.logError(logger, spanName, ex);
         spanManager.markError(span, ex);
         throw ex;
       }
+
+      if (!deferred || isSlow(logTracer, startNanos)) {
+        // A span tagged with a logging failure is exported rather than coalesced
+        failed = !logCompletion(pendingInput, logTracer, logger, span, result);
+      }
+
+      return result;
     } finally {
+      finishSpan(span, logTracer, System.nanoTime() - startNanos, failed);
+    }
+  }
+
+  /**
+   * Ends the span, or abandons it when the invocation is coalesced into its parent.
+   *
+   * <p>Every invocation of a method with {@code coalesceBelowMicros} enabled is recorded in the
+   * parent's statistics; the span itself is only exported if the invocation failed, reached the
+   * threshold, or has no traced parent on the current thread.
+   *
+   * @param span the span of the invocation
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param durationNanos the duration of the invocation in nanoseconds
+   * @param failed whether the invocation threw an exception
+   */
+  private void finishSpan(Span span, LogTracer logTracer, long durationNanos, boolean failed) {
+    spanCoalescer.exit(span);
+
+    long thresholdMicros = logTracer.coalesceBelowMicros();
+    if (thresholdMicros > 0
+        && spanCoalescer.record(span, logTracer.spanName(), durationNanos, failed)
+        && !failed
+        && durationNanos < TimeUnit.MICROSECONDS.toNanos(thresholdMicros)) {
+      spanManager.abandonSpan(span);
+    } else {
       spanManager.endSpan(span);
     }
   }
+
+  /**
+   * Logs the given arguments, either in full or as the configured capture fields.
+   *
+   * @param pjp ProceedingJoinPoint providing access to the intercepted method
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param logger the logger of the intercepted class
+   * @param span the span of the current invocation
+   * @param args the arguments to log
+   */
+  private void logInput(
+      ProceedingJoinPoint pjp, LogTracer logTracer, Logger logger, Span span, Object[] args) {
+    if (logTracer.captureFields().length > 0) {
+      logFields(logTracer, logger, span, captureFields(pjp, logTracer, args));
+    } else {
+      String serialized = jsonSerializer.toJsonArray(args);
+      loggingService.logInput(logger, logTracer.spanName(), serialized);
+      spanManager.addEvent(span, ARGS_EVENT_PREFIX + serialized);
+    }
+  }
+
+  /**
+   * Holds the arguments of a {@link CaptureMode#DEFERRED} invocation for logging on completion.
+   *
+   * <p>Without {@code snapshotArgs}, only references to the arguments are kept. With it, the
+   * selected capture fields are read now, or each argument is copied into a detached snapshot, so
+   * that mutations made by the method do not affect what is logged.
+   *
+   * @param pjp ProceedingJoinPoint providing access to the method and its arguments
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param logger the logger of the intercepted class
+   * @param span the span of the current invocation
+   * @return action logging the held arguments
+   */
+  private Runnable deferInput(
+      ProceedingJoinPoint pjp, LogTracer logTracer, Logger logger, Span span) {
+    Object[] args = pjp.getArgs();
+    if (!logTracer.snapshotArgs()) {
+      return () -> logInput(pjp, logTracer, logger, span, args);
+    }
+
+    if (logTracer.captureFields().length > 0) {
+      Map<String, String> fields = captureFields(pjp, logTracer, args);
+      return () -> logFields(logTracer, logger, span, fields);
+    }
+
+    Object[] snapshot = new Object[args.length];
+    for (int i = 0; i < args.length; i++) {
+      snapshot[i] = jsonSerializer.snapshot(args[i]);
+    }
+    return () -> logInput(pjp, logTracer, logger, span, snapshot);
+  }
+
+  /**
+   * Logs the held arguments of a failed {@link CaptureMode#DEFERRED} invocation.
+   *
+   * <p>A failure while logging is attached to the business exception as suppressed instead of
+   * replacing it, so the original error is always logged and rethrown.
+   *
+   * @param pendingInput action logging the held arguments, or {@code null} if none are held
+   * @param ex the exception thrown by the intercepted method
+   */
+  private void runDeferredInput(Runnable pendingInput, Throwable ex) {
+    if (pendingInput == null) {
+      return;
+    }
+
+    try {
+      pendingInput.run();
+    } catch (RuntimeException e) {
+      ex.addSuppressed(e);
+    }
+  }
+
+  /**
+   * Logs the held arguments and the return value of a successful invocation.
+   *
+   * <p>Failures are logged and tagged on the span instead of being thrown, so that the caller still
+   * receives the result.
+   *
+   * @param pendingInput the deferred argument logging, or {@code null} if none is pending
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param logger the logger of the intercepted class
+   * @param span the span of the current invocation
+   * @param result the return value of the invocation
+   * @return true if everything was logged, false if logging failed
+   */
+  private boolean logCompletion(
+      Runnable pendingInput, LogTracer logTracer, Logger logger, Span span, Object result) {
+    try {
+      if (pendingInput != null) {
+        pendingInput.run();
+      }
+
+      if (logTracer.logOutput()) {
+        String out = jsonSerializer.toJson(result);
+        loggingService.logOutput(logger, logTracer.spanName(), out);
+        spanManager.addEvent(span, OUTPUT_EVENT_PREFIX + out);
+      }
+      return true;
+    } catch (RuntimeException e) {
+      loggingService.logError(logger, logTracer.spanName(), e);
+      spanManager.markError(span, e);
+      return false;
+    }
+  }
+
+  /**
+   * Checks whether an invocation reached the slow call threshold of deferred capture.
+   *
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param startNanos the invocation start time from {@link System#nanoTime()}
+   * @return true if a positive threshold is configured and was reached, false otherwise
+   */
+  private boolean isSlow(LogTracer logTracer, long startNanos) {
+    long thresholdMillis = logTracer.slowThresholdMillis();
+    return thresholdMillis > 0
+        && System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+  }
+
+  /**
+   * Reads the configured capture fields from the given arguments.
+   *
+   * @param pjp ProceedingJoinPoint providing access to the intercepted method
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param args the arguments to read from
+   * @return captured values keyed by field-path expression
+   */
+  private Map<String, String> captureFields(
+      ProceedingJoinPoint pjp, LogTracer logTracer, Object[] args) {
+    return argumentCapturer.capture(
+        ((MethodSignature) pjp.getSignature()).getMethod(), logTracer.captureFields(), args);
+  }
+
+  /**
+   * Logs captured fields and adds them as span attributes.
+   *
+   * @param logTracer the LogTracer annotation instance with configuration
+   * @param logger the logger of the intercepted class
+   * @param span the span of the current invocation
+   * @param fields the captured values keyed by field-path expression
+   */
+  private void logFields(
+      LogTracer logTracer, Logger logger, Span span, Map<String, String> fields) {
+    loggingService.logFields(logger, logTracer.spanName(), fields);
+    fields.forEach((key, value) -> spanManager.tag(span, ARGS_ATTRIBUTE_PREFIX + key, value));
+  }
 }
@@ -0,0 +1,32 @@
+package com.ducks.synaptra.log.capture;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * Interface for selective capture of method argument values.
+ *
+ * <p>Resolves the field-path expressions configured on {@link
+ * com.ducks.synaptra.log.LogTracer#captureFields()} against the arguments of an intercepted method,
+ * producing only the selected values instead of a full serialization of every argument.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ArgumentCapturer {
+
+  /**
+   * Captures the values selected by the given expressions.
+   *
+   * <p>Implementations are expected to compile the expressions once per method and reuse the
+   * compiled form on subsequent calls. Expressions that cannot be resolved against the method are
+   * reported and skipped; they must not cause the intercepted call to fail.
+   *
+   * @param method the intercepted method
+   * @param expressions the field-path expressions to resolve
+   * @param args the method's arguments
+   * @return captured values of the valid expressions keyed by expression, in declaration order
+   */
+  Map<String, String> capture(Method method, String[] expressions, Object[] args);
+}
@@ -0,0 +1,31 @@
+package com.ducks.synaptra.log.capture;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A field-path expression compiled into a single method handle.
+ *
+ * <p>The accessor has the type {@code (Object[])Object}: it receives the intercepted method's
+ * argument array and returns the value the expression points to, or {@code null} if any
+ * intermediate value along the path is {@code null}.
+ *
+ * @param expression the original expression, used as the captured field key
+ * @param accessor the compiled accessor chain of type {@code (Object[])Object}
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see FieldPathCompiler
+ * @since 1.0.0
+ */
+public record CompiledFieldPath(String expression, MethodHandle accessor) {
+
+  /**
+   * Reads the value this path points to from the given arguments.
+   *
+   * @param args the intercepted method's arguments
+   * @return the resolved value, or {@code null} if the path hits a {@code null}
+   * @throws Throwable any exception thrown by an accessor along the path
+   */
+  public Object read(Object[] args) throws Throwable {
+    return accessor.invokeExact(args);
+  }
+}
@@ -0,0 +1,234 @@
+package com.ducks.synaptra.log.capture;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Compiles field-path expressions into method handle accessor chains.
+ *
+ * <p>An expression such as {@code request.messages.size()} is resolved once against the declared
+ * parameter and member types of the intercepted method. Each segment becomes a method handle for a
+ * getter, accessor, no-argument method or field, and the segments are composed into a single
+ * {@code (Object[])Object} handle guarded against intermediate {@code null} values.
+ *
+ * <p>Resolution is static: a segment is looked up on the declared type of the previous segment, so
+ * paths cannot navigate through members declared as {@code Object} or through generic type
+ * variables. Resolution failures are reported as {@link IllegalArgumentException} at compile time.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see CompiledFieldPath
+ * @since 1.0.0
+ */
+public final class FieldPathCompiler {
+
+  private static final String SEGMENT_SEPARATOR = "\\.";
+  private static final String METHOD_CALL_SUFFIX = "()";
+  private static final String GETTER_PREFIX = "get";
+  private static final String BOOLEAN_GETTER_PREFIX = "is";
+
+  private static final MethodType STEP_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  /** Predicate handle of type {@code (Object)boolean} testing for {@code null}. */
+  private static final MethodHandle IS_NULL;
+
+  /** Handle of type {@code (Object)Object} that always returns {@code null}. */
+  private static final MethodHandle NULL_RESULT = MethodHandles.empty(STEP_TYPE);
+
+  static {
+    try {
+      IS_NULL =
+          LOOKUP.findStatic(
+              Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private FieldPathCompiler() {}
+
+  /**
+   * Compiles an expression against the parameters of the given method.
+   *
+   * @param method the intercepted method
+   * @param parameterNames the method's parameter names, or {@code null} if unavailable
+   * @param expression the field-path expression to compile
+   * @return the compiled field path
+   * @throws IllegalArgumentException if the expression cannot be resolved
+   */
+  public static CompiledFieldPath compile(
+      Method method, String[] parameterNames, String expression) {
+    if (expression == null || expression.isBlank()) {
+      throw invalid(method, expression, "expression cannot be null or empty");
+    }
+
+    String[] segments = expression.trim().split(SEGMENT_SEPARATOR, -1);
+    int index = resolveParameterIndex(method, parameterNames, segments[0], expression);
+    Class<?> type = method.getParameterTypes()[index];
+
+    MethodHandle chain =
+        MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, index);
+
+    for (int i = 1; i < segments.length; i++) {
+      MethodHandle accessor = resolveAccessor(method, type, segments[i], expression);
+      type = accessor.type().returnType();
+      MethodHandle step =
+          MethodHandles.guardWithTest(IS_NULL, NULL_RESULT, accessor.asType(STEP_TYPE));
+      chain = MethodHandles.filterReturnValue(chain, step);
+    }
+
+    return new CompiledFieldPath(expression, chain);
+  }
+
+  /**
+   * Resolves the first segment of an expression to a parameter index.
+   *
+   * <p>The segment is matched against parameter names first and then parsed as a zero-based index.
+   *
+   * @param method the intercepted method
+   * @param parameterNames the method's parameter names, or {@code null} if unavailable
+   * @param segment the first expression segment
+   * @param expression the full expression, for error reporting
+   * @return the parameter index
+   */
+  private static int resolveParameterIndex(
+      Method method, String[] parameterNames, String segment, String expression) {
+    if (parameterNames != null) {
+      for (int i = 0; i < parameterNames.length; i++) {
+        if (segment.equals(parameterNames[i])) {
+          return i;
+        }
+      }
+    }
+
+    if (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit)) {
+      int index = Integer.parseInt(segment);
+      if (index < method.getParameterCount()) {
+        return index;
+      }
+    }
+
+    throw invalid(method, expression, "no parameter named or indexed '" + segment + "'");
+  }
+
+  /**
+   * Resolves one path segment on the given type to an unadapted accessor handle.
+   *
+   * @param method the intercepted method, for error reporting
+   * @param type the declared type the segment is looked up on
+   * @param segment the path segment
+   * @param expression the full expression, for error reporting
+   * @return accessor handle of type {@code (type)R}
+   */
+  private static MethodHandle resolveAccessor(
+      Method method, Class<?> type, String segment, String expression) {
+    if (segment.isEmpty()) {
+      throw invalid(method, expression, "empty path segment");
+    }
+    if (type.isPrimitive()) {
+      throw invalid(method, expression, "cannot navigate into primitive type " + type.getName());
+    }
+
+    if (segment.endsWith(METHOD_CALL_SUFFIX)) {
+      String name = segment.substring(0, segment.length() - METHOD_CALL_SUFFIX.length());
+      Method target = findMethod(type, name);
+      if (target == null) {
+        throw invalid(method, expression, "no method " + name + "() on " + type.getName());
+      }
+      return unreflect(method, target, expression);
+    }
+
+    String capitalized = Character.toUpperCase(segment.charAt(0)) + segment.substring(1);
+    for (String name :
+        new String[] {GETTER_PREFIX + capitalized, BOOLEAN_GETTER_PREFIX + capitalized, segment}) {
+      Method target = findMethod(type, name);
+      if (target != null) {
+        return unreflect(method, target, expression);
+      }
+    }
+
+    Field field = findField(type, segment);
+    if (field != null) {
+      try {
+        field.trySetAccessible();
+        return LOOKUP.unreflectGetter(field);
+      } catch (IllegalAccessException e) {
+        throw invalid(method, expression, "field " + field + " is not accessible");
+      }
+    }
+
+    throw invalid(method, expression, "no property '" + segment + "' on " + type.getName());
+  }
+
+  /**
+   * Finds a public, non-static, non-void, no-argument method by name.
+   *
+   * @param type the type to search
+   * @param name the method name
+   * @return the method, or {@code null} if none matches
+   */
+  private static Method findMethod(Class<?> type, String name) {
+    try {
+      Method target = type.getMethod(name);
+      if (Modifier.isStatic(target.getModifiers()) || target.getReturnType() == void.class) {
+        return null;
+      }
+      return target;
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Finds a non-static field by name in the type or its superclasses.
+   *
+   * @param type the type to search
+   * @param name the field name
+   * @return the field, or {@code null} if none matches
+   */
+  private static Field findField(Class<?> type, String name) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        Field field = current.getDeclaredField(name);
+        if (!Modifier.isStatic(field.getModifiers())) {
+          return field;
+        }
+      } catch (NoSuchFieldException e) {
+        // continue with the superclass
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Converts a reflected method into a method handle.
+   *
+   * <p>Public methods declared on non-public types (e.g., nested records) are made accessible when
+   * the module system allows it.
+   *
+   * @param method the intercepted method, for error reporting
+   * @param target the method to convert
+   * @param expression the full expression, for error reporting
+   * @return method handle for the target method
+   */
+  private static MethodHandle unreflect(Method method, Method target, String expression) {
+    try {
+      target.trySetAccessible();
+      return LOOKUP.unreflect(target);
+    } catch (IllegalAccessException e) {
+      throw invalid(method, expression, "method " + target + " is not accessible");
+    }
+  }
+
+  private static IllegalArgumentException invalid(
+      Method method, String expression, String reason) {
+    return new IllegalArgumentException(
+        "Invalid capture field '" + expression + "' on " + method + ": " + reason);
+  }
+}
@@ -0,0 +1,128 @@
+package com.ducks.synaptra.log.capture;
+
+import com.ducks.synaptra.log.serializer.JsonSerializer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Method handle based implementation of {@link ArgumentCapturer}.
+ *
+ * <p>Expressions are compiled by {@link FieldPathCompiler} on the first invocation of each method
+ * and cached, so steady-state capture costs a few direct field or getter reads per expression.
+ *
+ * <p>Expressions that cannot be compiled are logged once as a warning and left out of the cached
+ * paths, so a misconfigured expression never fails the intercepted call.
+ *
+ * <p>Scalar values (strings, numbers, booleans, characters and enums) are rendered with {@link
+ * String#valueOf(Object)}; any other value is serialized through {@link JsonSerializer}.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see ArgumentCapturer
+ * @see FieldPathCompiler
+ * @since 1.0.0
+ */
+@Component
+public class MethodHandleArgumentCapturer implements ArgumentCapturer {
+
+  private static final Logger LOGGER = LogManager.getLogger(MethodHandleArgumentCapturer.class);
+
+  private static final String NULL_STRING = "null";
+  private static final String READ_ERROR_PREFIX = "<error: ";
+  private static final String READ_ERROR_SUFFIX = ">";
+
+  private final JsonSerializer jsonSerializer;
+
+  private final ParameterNameDiscoverer parameterNameDiscoverer =
+      new DefaultParameterNameDiscoverer();
+
+  /** Compiled field paths per intercepted method. */
+  private final Map<Method, List<CompiledFieldPath>> compiledPaths = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new MethodHandleArgumentCapturer with the provided serializer.
+   *
+   * @param jsonSerializer serializer used for non-scalar captured values
+   */
+  public MethodHandleArgumentCapturer(JsonSerializer jsonSerializer) {
+    this.jsonSerializer = jsonSerializer;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If an accessor throws an exception while reading a value, the failure is rendered in place
+   * of the value rather than propagated to the intercepted call.
+   */
+  @Override
+  public Map<String, String> capture(Method method, String[] expressions, Object[] args) {
+    List<CompiledFieldPath> paths =
+        compiledPaths.computeIfAbsent(method, m -> compile(m, expressions));
+
+    Map<String, String> captured = new LinkedHashMap<>(paths.size() * 2);
+    for (CompiledFieldPath path : paths) {
+      captured.put(path.expression(), read(path, args));
+    }
+    return captured;
+  }
+
+  /**
+   * Compiles all expressions for a method, skipping those that cannot be resolved.
+   *
+   * @param method the intercepted method
+   * @param expressions the expressions to compile
+   * @return compiled field paths of the valid expressions, in declaration order
+   */
+  private List<CompiledFieldPath> compile(Method method, String[] expressions) {
+    String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+    List<CompiledFieldPath> paths = new ArrayList<>(expressions.length);
+    for (String expression : expressions) {
+      try {
+        paths.add(FieldPathCompiler.compile(method, parameterNames, expression));
+      } catch (IllegalArgumentException e) {
+        LOGGER.warn("Ignoring capture field: {}", e.getMessage());
+      }
+    }
+    return List.copyOf(paths);
+  }
+
+  /**
+   * Reads and renders a single captured value.
+   *
+   * @param path the compiled field path
+   * @param args the method's arguments
+   * @return rendered value
+   */
+  private String read(CompiledFieldPath path, Object[] args) {
+    try {
+      return render(path.read(args));
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      return READ_ERROR_PREFIX + t.getClass().getSimpleName() + READ_ERROR_SUFFIX;
+    }
+  }
+
+  private String render(Object value) {
+    if (value == null) {
+      return NULL_STRING;
+    }
+    if (value instanceof CharSequence
+        || value instanceof Number
+        || value instanceof Boolean
+        || value instanceof Character
+        || value instanceof Enum<?>) {
+      return String.valueOf(value);
+    }
+    return jsonSerializer.toJson(value);
+  }
+}
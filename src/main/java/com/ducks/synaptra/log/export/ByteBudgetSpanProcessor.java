@@ -0,0 +1,379 @@
+package com.ducks.synaptra.log.export;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Batching span processor whose queue is bounded by estimated bytes instead of span count.
+ *
+ * <p>Unlike the SDK's {@code BatchSpanProcessor}, which caps the number of queued spans, this
+ * processor caps the estimated serialized size of all spans held in memory, from the moment they
+ * end until their export completes. Span sizes are estimated by {@link SpanSizeEstimator}, so heap
+ * usage during export backlogs stays close to the configured budget regardless of payload sizes.
+ *
+ * <p>When a span does not fit, the {@link OverflowPolicy} decides whether its payload events are
+ * stripped first or the whole span is dropped. Overflows are counted and reported by a warning
+ * logged at most once per minute.
+ *
+ * <p>Spans are exported by a single daemon thread, in batches of up to {@code maxExportBatchSize}
+ * spans or every {@code scheduleDelay}, whichever comes first.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see OverflowPolicy
+ * @see SpanSizeEstimator
+ * @since 1.0.0
+ */
+public class ByteBudgetSpanProcessor implements SpanProcessor {
+
+  private static final Logger LOGGER = LogManager.getLogger(ByteBudgetSpanProcessor.class);
+
+  private static final String WORKER_THREAD_NAME = "synaptra-span-exporter";
+
+  /** Minimum interval between two warnings about spans stripped or dropped by the budget. */
+  private static final long OVERFLOW_WARNING_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+  /** Queue marker waking the worker up to process pending flush requests. */
+  private static final QueuedSpan FLUSH_MARKER = new QueuedSpan(null, 0);
+
+  /** Queue marker telling the worker to export the remaining spans and stop. */
+  private static final QueuedSpan SHUTDOWN_MARKER = new QueuedSpan(null, 0);
+
+  private final SpanExporter exporter;
+  private final long maxQueuedBytes;
+  private final OverflowPolicy overflowPolicy;
+  private final int maxExportBatchSize;
+  private final long scheduleDelayNanos;
+  private final long exportTimeoutNanos;
+
+  private final BlockingQueue<QueuedSpan> queue = new LinkedBlockingQueue<>();
+  private final Queue<CompletableResultCode> flushRequests = new ConcurrentLinkedQueue<>();
+  private final AtomicLong queuedBytes = new AtomicLong();
+  private final AtomicLong strippedSpans = new AtomicLong();
+  private final AtomicLong droppedSpans = new AtomicLong();
+  private final AtomicLong lastOverflowWarningNanos =
+      new AtomicLong(System.nanoTime() - OVERFLOW_WARNING_INTERVAL_NANOS);
+  private final AtomicBoolean shutdown = new AtomicBoolean();
+  private final CompletableResultCode shutdownResult = new CompletableResultCode();
+
+  /**
+   * Creates and starts a new ByteBudgetSpanProcessor.
+   *
+   * @param exporter the exporter receiving batches of spans
+   * @param maxQueuedBytes heap budget for queued and in-flight spans, in estimated bytes
+   * @param overflowPolicy policy applied to spans that do not fit in the budget
+   * @param maxExportBatchSize maximum number of spans per export call
+   * @param scheduleDelay maximum delay between two exports
+   * @param exportTimeout maximum time to wait for an export call to complete
+   */
+  public ByteBudgetSpanProcessor(
+      SpanExporter exporter,
+      long maxQueuedBytes,
+      OverflowPolicy overflowPolicy,
+      int maxExportBatchSize,
+      Duration scheduleDelay,
+      Duration exportTimeout) {
+    this.exporter = Objects.requireNonNull(exporter, "Exporter cannot be null");
+    this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "Overflow policy cannot be null");
+    if (maxQueuedBytes <= 0) {
+      throw new IllegalArgumentException("Max queued bytes must be positive");
+    }
+    if (maxExportBatchSize <= 0) {
+      throw new IllegalArgumentException("Max export batch size must be positive");
+    }
+    this.maxQueuedBytes = maxQueuedBytes;
+    this.maxExportBatchSize = maxExportBatchSize;
+    this.scheduleDelayNanos = scheduleDelay.toNanos();
+    this.exportTimeoutNanos = exportTimeout.toNanos();
+
+    Thread.ofPlatform().daemon().name(WORKER_THREAD_NAME).start(this::work);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Queues sampled spans if their estimated size fits in the remaining budget, applying the
+   * overflow policy otherwise.
+   */
+  @Override
+  public void onEnd(ReadableSpan span) {
+    if (shutdown.get() || !span.getSpanContext().isSampled()) {
+      return;
+    }
+
+    SpanData data = span.toSpanData();
+    long bytes = SpanSizeEstimator.estimate(data);
+    if (reserve(bytes)) {
+      queue.offer(new QueuedSpan(data, bytes));
+      return;
+    }
+
+    if (overflowPolicy == OverflowPolicy.STRIP_PAYLOAD) {
+      SpanData stripped = new PayloadStrippedSpanData(data);
+      long strippedBytes = SpanSizeEstimator.estimate(stripped);
+      if (reserve(strippedBytes)) {
+        strippedSpans.incrementAndGet();
+        queue.offer(new QueuedSpan(stripped, strippedBytes));
+        warnOverflow();
+        return;
+      }
+    }
+
+    droppedSpans.incrementAndGet();
+    warnOverflow();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Exports every span queued before this call. After {@link #shutdown()}, completes with the
+   * shutdown, once the remaining spans have been exported.
+   */
+  @Override
+  public CompletableResultCode forceFlush() {
+    if (shutdown.get()) {
+      return shutdownResult;
+    }
+
+    CompletableResultCode result = new CompletableResultCode();
+    flushRequests.offer(result);
+    queue.offer(FLUSH_MARKER);
+    // A concurrent shutdown may already have drained the queue; its result covers this request
+    return shutdown.get() ? shutdownResult : result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Signals the worker thread, which finishes any export in flight and exports every remaining
+   * span before shutting the exporter down.
+   */
+  @Override
+  public CompletableResultCode shutdown() {
+    if (shutdown.compareAndSet(false, true)) {
+      queue.offer(SHUTDOWN_MARKER);
+    }
+    return shutdownResult;
+  }
+
+  /**
+   * Returns the estimated bytes currently queued or being exported.
+   *
+   * @return estimated queued bytes
+   */
+  public long getQueuedBytes() {
+    return queuedBytes.get();
+  }
+
+  /**
+   * Returns the number of spans queued after their payload events were stripped.
+   *
+   * @return stripped span count
+   */
+  public long getStrippedSpans() {
+    return strippedSpans.get();
+  }
+
+  /**
+   * Returns the number of spans dropped because they did not fit in the budget.
+   *
+   * @return dropped span count
+   */
+  public long getDroppedSpans() {
+    return droppedSpans.get();
+  }
+
+  /**
+   * Atomically reserves budget for a span.
+   *
+   * @param bytes estimated size of the span
+   * @return {@code true} if the budget was reserved, {@code false} if it would be exceeded
+   */
+  private boolean reserve(long bytes) {
+    long current;
+    do {
+      current = queuedBytes.get();
+      if (current + bytes > maxQueuedBytes) {
+        return false;
+      }
+    } while (!queuedBytes.compareAndSet(current, current + bytes));
+    return true;
+  }
+
+  /**
+   * Logs the stripped and dropped span counts, unless a warning was logged within the last
+   * interval.
+   */
+  private void warnOverflow() {
+    long now = System.nanoTime();
+    long last = lastOverflowWarningNanos.get();
+    if (now - last < OVERFLOW_WARNING_INTERVAL_NANOS
+        || !lastOverflowWarningNanos.compareAndSet(last, now)) {
+      return;
+    }
+    LOGGER.warn(
+        "Span queue exceeded its budget of {} bytes: {} spans stripped and {} dropped so far",
+        maxQueuedBytes,
+        strippedSpans.get(),
+        droppedSpans.get());
+  }
+
+  /**
+   * Worker loop exporting batches until the processor is shut down.
+   *
+   * <p>The loop ends when the shutdown marker is consumed, so an export in flight always completes
+   * first. The remaining spans are then exported, every pending flush request is completed and the
+   * exporter is shut down.
+   */
+  private void work() {
+    List<QueuedSpan> batch = new ArrayList<>(maxExportBatchSize);
+    long nextExportNanos = System.nanoTime() + scheduleDelayNanos;
+
+    while (true) {
+      QueuedSpan next;
+      try {
+        next = queue.poll(Math.max(nextExportNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+
+      if (next == SHUTDOWN_MARKER) {
+        break;
+      } else if (next == FLUSH_MARKER) {
+        if (flush(batch, false)) {
+          break;
+        }
+      } else if (next != null) {
+        batch.add(next);
+      }
+
+      if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportNanos) {
+        export(batch);
+        nextExportNanos = System.nanoTime() + scheduleDelayNanos;
+      }
+    }
+
+    flush(batch, true);
+    CompletableResultCode exporterShutdown = exporter.shutdown();
+    exporterShutdown.whenComplete(
+        () -> {
+          if (exporterShutdown.isSuccess()) {
+            shutdownResult.succeed();
+          } else {
+            shutdownResult.fail();
+          }
+        });
+  }
+
+  /**
+   * Exports everything queued so far and completes the flush requests whose markers were consumed.
+   *
+   * <p>A request is always offered before its marker, and its spans before the request, so for
+   * every marker consumed here one request at the head of {@code flushRequests} has all of its
+   * spans exported. Requests whose markers are still in flight are left for a later flush.
+   *
+   * <p>If the shutdown marker is drained along the way, every pending request is completed.
+   *
+   * @param batch the batch being accumulated by the worker
+   * @param completeAll whether to complete every pending request, as done on shutdown
+   * @return {@code true} if the shutdown marker was drained
+   */
+  private boolean flush(List<QueuedSpan> batch, boolean completeAll) {
+    int markers = completeAll ? 0 : 1;
+    boolean shutdownDrained = false;
+    for (QueuedSpan next; (next = queue.poll()) != null; ) {
+      if (next == FLUSH_MARKER) {
+        markers++;
+      } else if (next == SHUTDOWN_MARKER) {
+        shutdownDrained = true;
+        completeAll = true;
+      } else {
+        batch.add(next);
+        if (batch.size() >= maxExportBatchSize) {
+          export(batch);
+        }
+      }
+    }
+    export(batch);
+
+    for (CompletableResultCode request;
+        (completeAll || markers-- > 0) && (request = flushRequests.poll()) != null; ) {
+      request.succeed();
+    }
+    return shutdownDrained;
+  }
+
+  /**
+   * Exports a batch, waits for the result and releases the batch's budget.
+   *
+   * @param batch the spans to export; cleared afterwards
+   */
+  private void export(List<QueuedSpan> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<SpanData> spans = new ArrayList<>(batch.size());
+    long bytes = 0;
+    for (QueuedSpan queued : batch) {
+      spans.add(queued.span());
+      bytes += queued.bytes();
+    }
+    batch.clear();
+
+    try {
+      CompletableResultCode result = exporter.export(spans);
+      result.join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+      if (!result.isSuccess()) {
+        LOGGER.debug("Exporter failed to export {} spans", spans.size());
+      }
+    } catch (RuntimeException e) {
+      LOGGER.warn("Exporter threw an exception while exporting {} spans", spans.size(), e);
+    } finally {
+      queuedBytes.addAndGet(-bytes);
+    }
+  }
+
+  /**
+   * A finished span together with its estimated size.
+   *
+   * @param span the span data
+   * @param bytes the estimated size reserved for the span
+   */
+  private record QueuedSpan(SpanData span, long bytes) {}
+}
@@ -0,0 +1,22 @@
+package com.ducks.synaptra.log.export;
+
+/**
+ * Policy applied when a finished span does not fit in the byte budget of {@link
+ * ByteBudgetSpanProcessor}.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see ByteBudgetSpanProcessor
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+
+  /** Drop the whole span. */
+  DROP_SPAN,
+
+  /**
+   * Strip payload events (serialized arguments and return values) from the span and queue it if
+   * the remainder fits; drop the span only if it still does not fit. Exception events are kept.
+   */
+  STRIP_PAYLOAD
+}
@@ -0,0 +1,65 @@
+package com.ducks.synaptra.log.export;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.data.DelegatingSpanData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+
+/**
+ * View of a span with its payload events removed.
+ *
+ * <p>All events except exception events are removed, and the span is marked with the {@value
+ * #PAYLOAD_STRIPPED} attribute so that trace viewers can tell why the payload is missing.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see OverflowPolicy#STRIP_PAYLOAD
+ * @since 1.0.0
+ */
+public final class PayloadStrippedSpanData extends DelegatingSpanData {
+
+  /** Attribute marking a span whose payload events were stripped. */
+  public static final String PAYLOAD_STRIPPED = "synaptra.payload.stripped";
+
+  private static final AttributeKey<Boolean> PAYLOAD_STRIPPED_KEY =
+      AttributeKey.booleanKey(PAYLOAD_STRIPPED);
+  private static final String EXCEPTION_EVENT_NAME = "exception";
+
+  private final List<EventData> events;
+  private final Attributes attributes;
+
+  /**
+   * Creates a stripped view of the given span.
+   *
+   * @param delegate the original span
+   */
+  public PayloadStrippedSpanData(SpanData delegate) {
+    super(delegate);
+    this.events =
+        delegate.getEvents().stream()
+            .filter(event -> EXCEPTION_EVENT_NAME.equals(event.getName()))
+            .toList();
+    this.attributes =
+        delegate.getAttributes().toBuilder().put(PAYLOAD_STRIPPED_KEY, true).build();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<EventData> getEvents() {
+    return events;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Attributes getAttributes() {
+    return attributes;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getTotalAttributeCount() {
+    return super.getTotalAttributeCount() + 1;
+  }
+}
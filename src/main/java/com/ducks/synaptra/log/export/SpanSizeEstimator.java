@@ -0,0 +1,77 @@
+package com.ducks.synaptra.log.export;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+
+/**
+ * Estimates the serialized size of finished spans.
+ *
+ * <p>The estimate is dominated by the payload strings captured by {@code LogTracerImpl} (span
+ * events carrying serialized arguments and return values), whose lengths are already known, plus
+ * a fixed overhead per span, event and attribute for identifiers, timestamps and encoding. It is
+ * cheap to compute and intentionally approximate.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SpanSizeEstimator {
+
+  /** Approximate fixed cost of a span: ids, timestamps, kind, status and encoding overhead. */
+  static final long SPAN_OVERHEAD_BYTES = 128;
+
+  /** Approximate fixed cost of an event: timestamp and encoding overhead. */
+  static final long EVENT_OVERHEAD_BYTES = 24;
+
+  /** Approximate fixed cost of an attribute: type tag and encoding overhead. */
+  static final long ATTRIBUTE_OVERHEAD_BYTES = 8;
+
+  /** Approximate size of a non-string scalar attribute value. */
+  static final long SCALAR_VALUE_BYTES = 8;
+
+  private SpanSizeEstimator() {}
+
+  /**
+   * Estimates the serialized size of a span.
+   *
+   * @param span the finished span
+   * @return estimated size in bytes
+   */
+  public static long estimate(SpanData span) {
+    long bytes = SPAN_OVERHEAD_BYTES + span.getName().length() + estimate(span.getAttributes());
+    for (EventData event : span.getEvents()) {
+      bytes += EVENT_OVERHEAD_BYTES + event.getName().length() + estimate(event.getAttributes());
+    }
+    return bytes;
+  }
+
+  /**
+   * Estimates the serialized size of a set of attributes.
+   *
+   * @param attributes the attributes
+   * @return estimated size in bytes
+   */
+  static long estimate(Attributes attributes) {
+    long[] bytes = {0};
+    attributes.forEach(
+        (key, value) ->
+            bytes[0] += ATTRIBUTE_OVERHEAD_BYTES + key.getKey().length() + estimateValue(value));
+    return bytes[0];
+  }
+
+  private static long estimateValue(Object value) {
+    if (value instanceof String string) {
+      return string.length();
+    }
+    if (value instanceof List<?> list) {
+      long bytes = 0;
+      for (Object element : list) {
+        bytes += estimateValue(element);
+      }
+      return bytes;
+    }
+    return SCALAR_VALUE_BYTES;
+  }
+}
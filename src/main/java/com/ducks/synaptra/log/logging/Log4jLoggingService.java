@@ -1,6 +1,8 @@
 package com.ducks.synaptra.log.logging;
 
+import java.util.Map;
 import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -8,15 +10,24 @@ import org.springframework.stereotype.Component;
  *
  * <p>Uses Log4j Logger for structured logging with consistent format.
  *
+ * <p>This is the default implementation; it is replaced by {@link OtlpLoggingService} when {@code
+ * synaptra.logging.logs.exporter=OTLP}.
+ *
  * @author Leandro Marques
  * @version 1.0.0
  * @see LoggingService
  * @since 1.0.0
  */
 @Component
+@ConditionalOnProperty(
+    prefix = "synaptra.logging.logs",
+    name = "exporter",
+    havingValue = "LOG4J",
+    matchIfMissing = true)
 public class Log4jLoggingService implements LoggingService {
 
   private static final String INPUT_LOG_FORMAT = "[{}] args={}";
+  private static final String FIELDS_LOG_FORMAT = "[{}] fields={}";
   private static final String OUTPUT_LOG_FORMAT = "[{}] out={}";
   private static final String ERROR_LOG_FORMAT = "[{}] error={}";
 
@@ -28,6 +39,14 @@ public class Log4jLoggingService implements LoggingService {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void logFields(Logger logger, String spanName, Map<String, String> fields) {
+    if (logger != null && spanName != null) {
+      logger.info(FIELDS_LOG_FORMAT, spanName, fields);
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public void logOutput(Logger logger, String spanName, String output) {
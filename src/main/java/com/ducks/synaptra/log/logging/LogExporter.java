@@ -0,0 +1,20 @@
+package com.ducks.synaptra.log.logging;
+
+/**
+ * Destination of the input, output and error records written by {@link LoggingService}.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum LogExporter {
+
+  /** Formatted text lines written through Log4j, see {@link Log4jLoggingService}. */
+  LOG4J,
+
+  /**
+   * OpenTelemetry log records exported over OTLP with trace context attached, see {@link
+   * OtlpLoggingService}.
+   */
+  OTLP
+}
@@ -1,5 +1,6 @@
 package com.ducks.synaptra.log.logging;
 
+import java.util.Map;
 import org.apache.logging.log4j.Logger;
 
 /**
@@ -23,6 +24,20 @@ public interface LoggingService {
    */
   void logInput(Logger logger, String spanName, String arguments);
 
+  /**
+   * Logs selected method input fields.
+   *
+   * <p>Used instead of {@link #logInput(Logger, String, String)} when only specific argument
+   * values are captured. Defaults to logging the fields' string form as input.
+   *
+   * @param logger the logger instance to use
+   * @param spanName the name of the span/method being logged
+   * @param fields the captured values keyed by field-path expression
+   */
+  default void logFields(Logger logger, String spanName, Map<String, String> fields) {
+    logInput(logger, spanName, String.valueOf(fields));
+  }
+
   /**
    * Logs method output/return value.
    *
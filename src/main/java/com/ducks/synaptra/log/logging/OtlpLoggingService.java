@@ -0,0 +1,144 @@
+package com.ducks.synaptra.log.logging;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.api.logs.Severity;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenTelemetry log record implementation of {@link LoggingService}.
+ *
+ * <p>Emits every input, output and error record as an OpenTelemetry log record instead of a
+ * formatted text line. Records are emitted in the current context, so the trace and span ids of
+ * the active span are attached automatically, and are exported in batches over OTLP by the logger
+ * provider configured in {@code TracingConfig}.
+ *
+ * <p>Each record uses the class logger name as instrumentation scope and carries:
+ *
+ * <ul>
+ *   <li>{@code synaptra.span_name} - the span/method name
+ *   <li>{@code synaptra.log_type} - {@code input}, {@code fields}, {@code output} or {@code error}
+ *   <li>the serialized payload as body, or {@code exception.*} attributes for errors
+ * </ul>
+ *
+ * <p>The Log4j logger's level is still honored, so records can be silenced per class as before.
+ *
+ * <p>Enabled with {@code synaptra.logging.logs.exporter=OTLP}.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see LoggingService
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "synaptra.logging.logs", name = "exporter", havingValue = "OTLP")
+public class OtlpLoggingService implements LoggingService {
+
+  private static final AttributeKey<String> SPAN_NAME =
+      AttributeKey.stringKey("synaptra.span_name");
+  private static final AttributeKey<String> LOG_TYPE = AttributeKey.stringKey("synaptra.log_type");
+  private static final AttributeKey<String> EXCEPTION_TYPE =
+      AttributeKey.stringKey("exception.type");
+  private static final AttributeKey<String> EXCEPTION_MESSAGE =
+      AttributeKey.stringKey("exception.message");
+  private static final AttributeKey<String> EXCEPTION_STACKTRACE =
+      AttributeKey.stringKey("exception.stacktrace");
+
+  private static final String FIELD_ATTRIBUTE_PREFIX = "args.";
+  private static final String INPUT_TYPE = "input";
+  private static final String FIELDS_TYPE = "fields";
+  private static final String OUTPUT_TYPE = "output";
+  private static final String ERROR_TYPE = "error";
+
+  private final OpenTelemetry openTelemetry;
+
+  /**
+   * Creates a new OtlpLoggingService.
+   *
+   * @param openTelemetry OpenTelemetry instance providing the logger provider
+   */
+  public OtlpLoggingService(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void logInput(Logger logger, String spanName, String arguments) {
+    if (logger != null && spanName != null && logger.isInfoEnabled()) {
+      record(logger, spanName, Severity.INFO, INPUT_TYPE).setBody(arguments).emit();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each captured field is also added as an {@code args.<expression>} attribute.
+   */
+  @Override
+  public void logFields(Logger logger, String spanName, Map<String, String> fields) {
+    if (logger != null && spanName != null && logger.isInfoEnabled()) {
+      LogRecordBuilder builder =
+          record(logger, spanName, Severity.INFO, FIELDS_TYPE).setBody(String.valueOf(fields));
+      if (fields != null) {
+        fields.forEach(
+            (key, value) ->
+                builder.setAttribute(AttributeKey.stringKey(FIELD_ATTRIBUTE_PREFIX + key), value));
+      }
+      builder.emit();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void logOutput(Logger logger, String spanName, String output) {
+    if (logger != null && spanName != null && logger.isInfoEnabled()) {
+      record(logger, spanName, Severity.INFO, OUTPUT_TYPE).setBody(output).emit();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void logError(Logger logger, String spanName, Throwable throwable) {
+    if (logger != null && spanName != null && throwable != null && logger.isErrorEnabled()) {
+      record(logger, spanName, Severity.ERROR, ERROR_TYPE)
+          .setBody(String.valueOf(throwable.getMessage()))
+          .setAttribute(EXCEPTION_TYPE, throwable.getClass().getName())
+          .setAttribute(EXCEPTION_MESSAGE, String.valueOf(throwable.getMessage()))
+          .setAttribute(EXCEPTION_STACKTRACE, stackTrace(throwable))
+          .emit();
+    }
+  }
+
+  /**
+   * Starts a log record with the attributes common to all record types.
+   *
+   * @param logger the logger whose name is used as instrumentation scope
+   * @param spanName the name of the span/method being logged
+   * @param severity the record severity
+   * @param logType the record type
+   * @return log record builder, emitted in the current context when {@code emit()} is called
+   */
+  private LogRecordBuilder record(
+      Logger logger, String spanName, Severity severity, String logType) {
+    return openTelemetry
+        .getLogsBridge()
+        .get(logger.getName())
+        .logRecordBuilder()
+        .setSeverity(severity)
+        .setSeverityText(severity.name())
+        .setAttribute(SPAN_NAME, spanName)
+        .setAttribute(LOG_TYPE, logType);
+  }
+
+  private static String stackTrace(Throwable throwable) {
+    StringWriter writer = new StringWriter();
+    throwable.printStackTrace(new PrintWriter(writer));
+    return writer.toString();
+  }
+}
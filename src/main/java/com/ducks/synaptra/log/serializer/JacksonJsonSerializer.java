@@ -67,6 +67,31 @@ public class JacksonJsonSerializer implements JsonSerializer {
         .collect(Collectors.joining(ARRAY_SEPARATOR, ARRAY_START, ARRAY_END));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Immutable scalars are returned as-is; other objects are converted into a Jackson tree. If
+   * conversion fails, the fallback string representation is captured instead, which later
+   * serializes as a quoted JSON string.
+   */
+  @Override
+  public Object snapshot(Object obj) {
+    if (obj == null
+        || obj instanceof String
+        || obj instanceof Number
+        || obj instanceof Boolean
+        || obj instanceof Character
+        || obj instanceof Enum<?>) {
+      return obj;
+    }
+
+    try {
+      return objectMapper.valueToTree(obj);
+    } catch (Exception e) {
+      return createFallbackString(obj);
+    }
+  }
+
   /**
    * Creates a fallback string representation when JSON serialization fails.
    *
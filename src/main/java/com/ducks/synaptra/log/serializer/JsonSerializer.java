@@ -32,4 +32,18 @@ public interface JsonSerializer {
    * @return JSON-like string representation of the array
    */
   String toJsonArray(Object[] args);
+
+  /**
+   * Creates a detached copy of an object's current state for later serialization.
+   *
+   * <p>The snapshot is unaffected by later mutations of the original object and can be passed to
+   * {@link #toJson(Object)} or {@link #toJsonArray(Object[])}. For objects that serialize
+   * successfully, the output matches what the original would have produced at snapshot time;
+   * for objects that cannot be serialized, the snapshot renders as a JSON string containing the
+   * fallback representation.
+   *
+   * @param obj the object to snapshot (can be null)
+   * @return detached snapshot of the object
+   */
+  Object snapshot(Object obj);
 }
@@ -0,0 +1,52 @@
+package com.ducks.synaptra.log.tracing;
+
+import io.micrometer.tracing.Span;
+
+/**
+ * Interface for folding high-frequency child spans into statistics on their parent span.
+ *
+ * <p>Every traced invocation opens a frame with {@link #enter(Span)} and closes it with {@link
+ * #exit(Span)}. Child invocations that opt into coalescing are reported with {@link
+ * #record(Span, String, long, boolean)}; their statistics (count, total, min, max and error count
+ * per span name) are accumulated on the enclosing frame and attached to the parent span as numeric
+ * attributes when its frame is closed.
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see com.ducks.synaptra.log.LogTracer#coalesceBelowMicros()
+ * @since 1.0.0
+ */
+public interface SpanCoalescer {
+
+  /**
+   * Opens a frame for a traced invocation.
+   *
+   * @param span the span of the invocation
+   */
+  void enter(Span span);
+
+  /**
+   * Closes the frame of a traced invocation, attaching any accumulated child statistics to its
+   * span.
+   *
+   * <p>Must be called before the span is ended and before the invocation itself is recorded.
+   *
+   * @param span the span of the invocation
+   */
+  void exit(Span span);
+
+  /**
+   * Records a finished child invocation in the statistics of its parent frame.
+   *
+   * <p>Must be called right after {@link #exit(Span)} for the same span. The invocation is only
+   * recorded if the frame that enclosed it when it was opened is still the innermost open frame.
+   *
+   * @param span the span of the child invocation
+   * @param spanName the name under which the statistics are aggregated
+   * @param durationNanos the duration of the invocation in nanoseconds
+   * @param error whether the invocation failed
+   * @return {@code true} if the invocation was recorded on a parent frame, {@code false} if the
+   *     span has no enclosing traced parent and must be exported as usual
+   */
+  boolean record(Span span, String spanName, long durationNanos, boolean error);
+}
@@ -32,6 +32,37 @@ public interface SpanManager {
    */
   void addEvent(Span span, String eventName);
 
+  /**
+   * Adds a key-value attribute to the span.
+   *
+   * <p>Defaults to tagging the span directly through the Micrometer API.
+   *
+   * @param span the span to tag
+   * @param key the attribute key
+   * @param value the attribute value
+   */
+  default void tag(Span span, String key, String value) {
+    if (span != null && key != null && value != null) {
+      span.tag(key, value);
+    }
+  }
+
+  /**
+   * Adds a numeric attribute to the span.
+   *
+   * <p>Defaults to tagging the span directly through the Micrometer API, which keeps the value
+   * numeric in the exported span.
+   *
+   * @param span the span to tag
+   * @param key the attribute key
+   * @param value the attribute value
+   */
+  default void tag(Span span, String key, long value) {
+    if (span != null && key != null) {
+      span.tag(key, value);
+    }
+  }
+
   /**
    * Marks the span with an error.
    *
@@ -47,6 +78,19 @@ public interface SpanManager {
    */
   void endSpan(Span span);
 
+  /**
+   * Discards the span without ending it, so it is never exported.
+   *
+   * <p>Defaults to abandoning the span directly through the Micrometer API.
+   *
+   * @param span the span to abandon
+   */
+  default void abandonSpan(Span span) {
+    if (span != null) {
+      span.abandon();
+    }
+  }
+
   /** Functional interface for code that may throw exceptions. */
   @FunctionalInterface
   interface ThrowingRunnable {
@@ -0,0 +1,159 @@
+package com.ducks.synaptra.log.tracing;
+
+import io.micrometer.tracing.Span;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thread-local implementation of {@link SpanCoalescer}.
+ *
+ * <p>Frames are kept on a per-thread stack, so statistics are accumulated without synchronization.
+ * Each frame remembers the frame that enclosed it when it was opened, and a child invocation is
+ * only folded into that frame if it is still the innermost open frame on the current thread.
+ * Invocations running on other threads (e.g., asynchronous work) are exported as regular spans.
+ *
+ * <p>Statistics are attached to the parent span as attributes named {@code
+ * coalesced.<spanName>.<statistic>}, with durations in microseconds:
+ *
+ * <ul>
+ *   <li>{@code count} - number of invocations
+ *   <li>{@code total_us}, {@code min_us}, {@code max_us} - duration statistics
+ *   <li>{@code errors} - number of failed invocations
+ * </ul>
+ *
+ * @author Leandro Marques
+ * @version 1.0.0
+ * @see SpanCoalescer
+ * @since 1.0.0
+ */
+@Component
+public class ThreadLocalSpanCoalescer implements SpanCoalescer {
+
+  private static final String ATTRIBUTE_PREFIX = "coalesced.";
+  private static final String COUNT_SUFFIX = ".count";
+  private static final String TOTAL_SUFFIX = ".total_us";
+  private static final String MIN_SUFFIX = ".min_us";
+  private static final String MAX_SUFFIX = ".max_us";
+  private static final String ERRORS_SUFFIX = ".errors";
+
+  private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(Frames::new);
+
+  private final SpanManager spanManager;
+
+  /**
+   * Creates a new ThreadLocalSpanCoalescer.
+   *
+   * @param spanManager span manager used to attach statistics to parent spans
+   */
+  public ThreadLocalSpanCoalescer(SpanManager spanManager) {
+    this.spanManager = spanManager;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void enter(Span span) {
+    Frames frames = FRAMES.get();
+    frames.top = new Frame(span, frames.top);
+    frames.exited = null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void exit(Span span) {
+    Frames frames = FRAMES.get();
+    Frame frame = frames.top;
+    while (frame != null && frame.span != span) {
+      frame = frame.parent;
+    }
+
+    frames.top = frame != null ? frame.parent : null;
+    frames.exited = frame;
+    if (frame != null && frame.stats != null) {
+      frame.stats.forEach((name, stats) -> flush(span, name, stats));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean record(Span span, String spanName, long durationNanos, boolean error) {
+    Frames frames = FRAMES.get();
+    Frame child = frames.exited;
+    frames.exited = null;
+    Frame parent = child != null && child.span == span ? child.parent : null;
+    if (parent == null || parent != frames.top) {
+      return false;
+    }
+
+    parent.stats(spanName).add(durationNanos, error);
+    return true;
+  }
+
+  private void flush(Span span, String spanName, Stats stats) {
+    String prefix = ATTRIBUTE_PREFIX + spanName;
+    spanManager.tag(span, prefix + COUNT_SUFFIX, stats.count);
+    spanManager.tag(span, prefix + TOTAL_SUFFIX, micros(stats.totalNanos));
+    spanManager.tag(span, prefix + MIN_SUFFIX, micros(stats.minNanos));
+    spanManager.tag(span, prefix + MAX_SUFFIX, micros(stats.maxNanos));
+    spanManager.tag(span, prefix + ERRORS_SUFFIX, stats.errors);
+  }
+
+  private static long micros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+
+  /** The frame stack of a thread. */
+  private static final class Frames {
+
+    /** Innermost open frame, or {@code null} if none is open. */
+    private Frame top;
+
+    /** Frame closed by the last {@link #exit(Span)}, until its invocation is recorded. */
+    private Frame exited;
+  }
+
+  /** A traced invocation and the statistics of its coalesced children. */
+  private static final class Frame {
+
+    private final Span span;
+
+    /** Frame that was innermost when this one was opened, or {@code null} for a root frame. */
+    private final Frame parent;
+
+    /** Statistics per child span name; allocated on the first coalesced child. */
+    private Map<String, Stats> stats;
+
+    private Frame(Span span, Frame parent) {
+      this.span = span;
+      this.parent = parent;
+    }
+
+    private Stats stats(String spanName) {
+      if (stats == null) {
+        stats = new LinkedHashMap<>();
+      }
+      return stats.computeIfAbsent(spanName, name -> new Stats());
+    }
+  }
+
+  /** Aggregated statistics of coalesced invocations sharing a span name. */
+  private static final class Stats {
+
+    private long count;
+    private long totalNanos;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos;
+    private long errors;
+
+    private void add(long durationNanos, boolean error) {
+      count++;
+      totalNanos += durationNanos;
+      minNanos = Math.min(minNanos, durationNanos);
+      maxNanos = Math.max(maxNanos, durationNanos);
+      if (error) {
+        errors++;
+      }
+    }
+  }
+}
@@ -1,9 +1,16 @@
 package com.ducks.synaptra.properties;
 
+import com.ducks.synaptra.log.export.OverflowPolicy;
+import com.ducks.synaptra.log.logging.LogExporter;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -20,6 +27,12 @@ import org.springframework.validation.annotation.Validated;
  *     jaegerEndpoint: <a href="http://localhost:4318/v1/traces">...</a>
  *     serviceName: my-service
  *     scopeName: com.example.myservice
+ *     spanQueue:
+ *       byteBudgetEnabled: true
+ *       maxQueuedBytes: 64MB
+ *       overflowPolicy: STRIP_PAYLOAD
+ *     logs:
+ *       exporter: OTLP
  * </pre>
  *
  * <p>All properties are validated to ensure they are not null or empty.
@@ -59,4 +72,94 @@ public class SynaptraLogProperties {
    */
   @NotBlank(message = "Scope name cannot be null or empty")
   private String scopeName;
+
+  /**
+   * How finished spans are held in memory until the exporter sends them.
+   *
+   * <p>Bounded by span count unless the byte budget is enabled; see {@link SpanQueue}.
+   */
+  @Valid @NotNull private SpanQueue spanQueue = new SpanQueue();
+
+  /**
+   * Where the input, output and error records of traced methods are written.
+   *
+   * <p>Log4j text output unless the OTLP exporter is selected; see {@link Logs}.
+   */
+  @Valid @NotNull private Logs logs = new Logs();
+
+  /**
+   * Queue bound, overflow handling and export batching for finished spans.
+   *
+   * <p>When {@code byteBudgetEnabled} is {@code true}, spans are buffered by a {@link
+   * com.ducks.synaptra.log.export.ByteBudgetSpanProcessor} bounded by {@code maxQueuedBytes};
+   * otherwise the SDK's count-bounded {@code BatchSpanProcessor} is used. The batching settings
+   * apply to both, while {@code maxQueuedBytes} and {@code overflowPolicy} are byte-budget only.
+   */
+  @Setter
+  @Getter
+  public static class SpanQueue {
+
+    /** Whether to bound the span queue by estimated bytes instead of span count. */
+    private boolean byteBudgetEnabled = false;
+
+    /** Heap budget for spans queued or being exported, measured in estimated serialized bytes. */
+    @NotNull(message = "Max queued bytes cannot be null")
+    private DataSize maxQueuedBytes = DataSize.ofMegabytes(64);
+
+    /** Policy applied to spans that do not fit in the remaining budget. */
+    @NotNull(message = "Overflow policy cannot be null")
+    private OverflowPolicy overflowPolicy = OverflowPolicy.STRIP_PAYLOAD;
+
+    /** Maximum number of spans per export call. */
+    @Positive(message = "Max export batch size must be positive")
+    private int maxExportBatchSize = 512;
+
+    /** Maximum delay between two exports. */
+    @NotNull(message = "Schedule delay cannot be null")
+    private Duration scheduleDelay = Duration.ofSeconds(5);
+
+    /** Maximum time to wait for an export call to complete. */
+    @NotNull(message = "Export timeout cannot be null")
+    private Duration exportTimeout = Duration.ofSeconds(30);
+  }
+
+  /**
+   * Exporter selection, OTLP endpoint and batch processor limits for log records.
+   *
+   * <p>With {@code exporter: OTLP}, records are emitted as OpenTelemetry log records and exported
+   * in batches by a bounded {@code BatchLogRecordProcessor}. Unless {@code endpoint} is set, the
+   * logs endpoint is derived from {@code jaegerEndpoint} by replacing its {@code /v1/traces} path
+   * with {@code /v1/logs}.
+   */
+  @Setter
+  @Getter
+  public static class Logs {
+
+    /** Where log records are written. */
+    @NotNull(message = "Log exporter cannot be null")
+    private LogExporter exporter = LogExporter.LOG4J;
+
+    /**
+     * OTLP HTTP endpoint URL for log records; derived from {@code jaegerEndpoint} when empty.
+     *
+     * <p>Example: {@code http://localhost:4318/v1/logs}
+     */
+    private String endpoint;
+
+    /** Maximum number of log records buffered for export; further records are dropped. */
+    @Positive(message = "Max queue size must be positive")
+    private int maxQueueSize = 2048;
+
+    /** Maximum number of log records per export call. */
+    @Positive(message = "Max export batch size must be positive")
+    private int maxExportBatchSize = 512;
+
+    /** Maximum delay between two exports. */
+    @NotNull(message = "Schedule delay cannot be null")
+    private Duration scheduleDelay = Duration.ofSeconds(1);
+
+    /** Maximum time to wait for an export call to complete. */
+    @NotNull(message = "Export timeout cannot be null")
+    private Duration exportTimeout = Duration.ofSeconds(30);
+  }
 }
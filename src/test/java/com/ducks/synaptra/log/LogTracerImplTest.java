@@ -0,0 +1,333 @@
+package com.ducks.synaptra.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ducks.synaptra.log.capture.MethodHandleArgumentCapturer;
+import com.ducks.synaptra.log.logging.LoggingService;
+import com.ducks.synaptra.log.serializer.JacksonJsonSerializer;
+import com.ducks.synaptra.log.serializer.JsonSerializer;
+import com.ducks.synaptra.log.tracing.SpanManager;
+import com.ducks.synaptra.log.tracing.ThreadLocalSpanCoalescer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link LogTracerImpl}. */
+class LogTracerImplTest {
+
+  private final Workload workload = new Workload();
+  private final List<Span> spans = new ArrayList<>();
+
+  private SpanManager spanManager;
+  private LoggingService loggingService;
+  private LogTracerImpl aspect;
+
+  @BeforeEach
+  void setUp() {
+    spanManager = mock(SpanManager.class);
+    loggingService = mock(LoggingService.class);
+    when(spanManager.createSpan(anyString()))
+        .thenAnswer(
+            invocation -> {
+              Span span = mock(Span.class, invocation.<String>getArgument(0));
+              spans.add(span);
+              return span;
+            });
+
+    JsonSerializer jsonSerializer = new JacksonJsonSerializer(new ObjectMapper());
+    aspect =
+        new LogTracerImpl(
+            jsonSerializer,
+            new MethodHandleArgumentCapturer(jsonSerializer),
+            spanManager,
+            new ThreadLocalSpanCoalescer(spanManager),
+            loggingService,
+            mock(Tracer.class));
+  }
+
+  @Test
+  void coalescesFastSuccessfulDirectChildren() throws Throwable {
+    invoke(
+        "parent",
+        () -> {
+          invoke("fastLeaf", () -> "a");
+          invoke("fastLeaf", () -> "b");
+          return null;
+        });
+
+    Span parent = spans.get(0);
+    verify(spanManager).abandonSpan(spans.get(1));
+    verify(spanManager).abandonSpan(spans.get(2));
+    verify(spanManager).endSpan(parent);
+    verify(spanManager).tag(parent, "coalesced.leaf.count", 2L);
+    verify(spanManager).tag(parent, "coalesced.leaf.errors", 0L);
+  }
+
+  @Test
+  void exportsFailedChildrenAndCountsTheirErrors() throws Throwable {
+    IllegalStateException failure = new IllegalStateException("boom");
+    Body failing =
+        () -> {
+          throw failure;
+        };
+
+    invoke(
+        "parent",
+        () -> {
+          assertThatThrownBy(() -> invoke("fastLeaf", failing)).isSameAs(failure);
+          return null;
+        });
+
+    Span parent = spans.get(0);
+    Span leaf = spans.get(1);
+    verify(spanManager).markError(leaf, failure);
+    verify(spanManager).endSpan(leaf);
+    verify(spanManager, never()).abandonSpan(leaf);
+    verify(spanManager).tag(parent, "coalesced.leaf.count", 1L);
+    verify(spanManager).tag(parent, "coalesced.leaf.errors", 1L);
+  }
+
+  @Test
+  void exportsChildrenReachingTheThreshold() throws Throwable {
+    invoke(
+        "parent",
+        () ->
+            invoke(
+                "slowLeaf",
+                () -> {
+                  Thread.sleep(5);
+                  return null;
+                }));
+
+    Span leaf = spans.get(1);
+    verify(spanManager).endSpan(leaf);
+    verify(spanManager, never()).abandonSpan(leaf);
+    verify(spanManager).tag(spans.get(0), "coalesced.leaf.count", 1L);
+  }
+
+  @Test
+  void exportsInvocationsWithoutTracedParent() throws Throwable {
+    invoke("fastLeaf", () -> null);
+
+    verify(spanManager).endSpan(spans.get(0));
+    verify(spanManager, never()).abandonSpan(spans.get(0));
+  }
+
+  @Test
+  void coalescesChildrenIntoTheirDirectParentOnly() throws Throwable {
+    invoke("parent", () -> invoke("middle", () -> invoke("fastLeaf", () -> null)));
+
+    Span parent = spans.get(0);
+    Span middle = spans.get(1);
+    verify(spanManager).abandonSpan(spans.get(2));
+    verify(spanManager).endSpan(middle);
+    verify(spanManager).tag(middle, "coalesced.leaf.count", 1L);
+    verify(spanManager, never()).tag(eq(parent), anyString(), anyLong());
+  }
+
+  @Test
+  void deferredCaptureSkipsPayloadsOfFastSuccessfulCalls() throws Throwable {
+    Object result = invoke("errorOnly", () -> "done", items());
+
+    assertThat(result).isEqualTo("done");
+    verify(loggingService, never()).logInput(any(), anyString(), anyString());
+    verify(loggingService, never()).logOutput(any(), anyString(), anyString());
+    verify(spanManager, never()).addEvent(any(), anyString());
+  }
+
+  @Test
+  void deferredCaptureLogsInputsOfFailedCalls() {
+    IllegalStateException failure = new IllegalStateException("boom");
+
+    assertThatThrownBy(() -> invoke("errorOnly", throwing(failure), items())).isSameAs(failure);
+
+    Span span = spans.get(0);
+    verify(loggingService).logInput(any(), eq("errorOnly"), eq("[[\"a\"]]"));
+    verify(spanManager).addEvent(span, "args - [[\"a\"]]");
+    verify(loggingService).logError(any(), eq("errorOnly"), eq(failure));
+    verify(spanManager).markError(span, failure);
+    verify(loggingService, never()).logOutput(any(), anyString(), anyString());
+  }
+
+  @Test
+  void deferredCaptureLogsPayloadsOfSlowCallsOnly() throws Throwable {
+    invoke("slowOnly", () -> "fast", items());
+    verify(loggingService, never()).logInput(any(), anyString(), anyString());
+
+    invoke(
+        "slowOnly",
+        () -> {
+          Thread.sleep(60);
+          return "slow";
+        },
+        items());
+    verify(loggingService).logInput(any(), eq("slowOnly"), eq("[[\"a\"]]"));
+    verify(loggingService).logOutput(any(), eq("slowOnly"), eq("\"slow\""));
+    verify(loggingService, never()).logOutput(any(), anyString(), eq("\"fast\""));
+  }
+
+  @Test
+  void deferredCaptureLogsMutatedArgumentsWithoutSnapshot() {
+    List<String> items = items();
+
+    assertThatThrownBy(() -> invoke("errorOnly", mutateAndThrow(items), items));
+
+    verify(loggingService).logInput(any(), eq("errorOnly"), eq("[[\"a\",\"b\"]]"));
+  }
+
+  @Test
+  void deferredCaptureLogsArgumentsAsReceivedWithSnapshot() {
+    List<String> items = items();
+
+    assertThatThrownBy(() -> invoke("snapshot", mutateAndThrow(items), items));
+
+    verify(loggingService).logInput(any(), eq("snapshot"), eq("[[\"a\"]]"));
+  }
+
+  @Test
+  void deferredCaptureReadsSnapshotFieldsBeforeTheCall() {
+    List<String> items = items();
+
+    assertThatThrownBy(() -> invoke("snapshotFields", mutateAndThrow(items), items));
+
+    verify(loggingService).logFields(any(), eq("snapshotFields"), eq(Map.of("0.size()", "1")));
+    verify(spanManager).tag(spans.get(0), "args.0.size()", "1");
+  }
+
+  @Test
+  void deferredLoggingFailuresAreSuppressedIntoTheOriginalException() {
+    IllegalStateException failure = new IllegalStateException("boom");
+    IllegalArgumentException loggingFailure = new IllegalArgumentException("logging");
+    doThrow(loggingFailure).when(loggingService).logInput(any(), anyString(), anyString());
+
+    assertThatThrownBy(() -> invoke("errorOnly", throwing(failure), items()))
+        .isSameAs(failure)
+        .hasSuppressedException(loggingFailure);
+    verify(loggingService).logError(any(), eq("errorOnly"), eq(failure));
+  }
+
+  @Test
+  void outputLoggingFailuresAreReportedWithoutReplacingTheResult() throws Throwable {
+    IllegalArgumentException loggingFailure = new IllegalArgumentException("logging");
+    doThrow(loggingFailure).when(loggingService).logOutput(any(), anyString(), anyString());
+
+    Object result = invoke("eager", () -> "done", items());
+
+    Span span = spans.get(0);
+    assertThat(result).isEqualTo("done");
+    verify(loggingService).logError(any(), eq("eager"), eq(loggingFailure));
+    verify(spanManager).markError(span, loggingFailure);
+    verify(spanManager).endSpan(span);
+  }
+
+  /**
+   * Runs the advice around the given body, as if the named {@link Workload} method was called.
+   *
+   * @param methodName name of the annotated {@link Workload} method
+   * @param body the method body
+   * @param args the method arguments
+   * @return the result returned by the advice
+   */
+  private Object invoke(String methodName, Body body, Object... args) throws Throwable {
+    Method method = findMethod(methodName);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(signature.getMethod()).thenReturn(method);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    when(pjp.getTarget()).thenReturn(workload);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(pjp.getArgs()).thenReturn(args);
+    when(pjp.proceed()).thenAnswer(invocation -> body.run());
+
+    return aspect.around(pjp, method.getAnnotation(LogTracer.class));
+  }
+
+  private static List<String> items() {
+    return new ArrayList<>(List.of("a"));
+  }
+
+  private static Body throwing(Throwable failure) {
+    return () -> {
+      throw failure;
+    };
+  }
+
+  private static Body mutateAndThrow(List<String> items) {
+    return () -> {
+      items.add("b");
+      throw new IllegalStateException("boom");
+    };
+  }
+
+  private static Method findMethod(String name) {
+    for (Method method : Workload.class.getDeclaredMethods()) {
+      if (method.getName().equals(name)) {
+        return method;
+      }
+    }
+    throw new IllegalArgumentException("No workload method " + name);
+  }
+
+  /** Body of an intercepted method. */
+  @FunctionalInterface
+  interface Body {
+    Object run() throws Throwable;
+  }
+
+  /** Annotated methods providing the {@link LogTracer} configurations under test. */
+  static class Workload {
+
+    @LogTracer(spanName = "parent", logInput = false)
+    void parent() {}
+
+    @LogTracer(spanName = "middle", logInput = false)
+    void middle() {}
+
+    @LogTracer(spanName = "leaf", logInput = false, coalesceBelowMicros = 60_000_000)
+    void fastLeaf() {}
+
+    @LogTracer(spanName = "leaf", logInput = false, coalesceBelowMicros = 1_000)
+    void slowLeaf() {}
+
+    @LogTracer(spanName = "eager", logOutput = true)
+    void eager(List<String> items) {}
+
+    @LogTracer(spanName = "errorOnly", logOutput = true, captureMode = CaptureMode.DEFERRED)
+    void errorOnly(List<String> items) {}
+
+    @LogTracer(
+        spanName = "slowOnly",
+        logOutput = true,
+        captureMode = CaptureMode.DEFERRED,
+        slowThresholdMillis = 50)
+    void slowOnly(List<String> items) {}
+
+    @LogTracer(spanName = "snapshot", captureMode = CaptureMode.DEFERRED, snapshotArgs = true)
+    void snapshot(List<String> items) {}
+
+    @LogTracer(
+        spanName = "snapshotFields",
+        captureMode = CaptureMode.DEFERRED,
+        snapshotArgs = true,
+        captureFields = "0.size()")
+    void snapshotFields(List<String> items) {}
+  }
+}
@@ -0,0 +1,183 @@
+package com.ducks.synaptra.log.capture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link FieldPathCompiler}. */
+class FieldPathCompilerTest {
+
+  private static final String[] PARAMETER_NAMES = {"order", "priority"};
+
+  private Method method;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    method = Service.class.getDeclaredMethod("handle", Order.class, int.class);
+  }
+
+  @Test
+  void resolvesParameterByName() throws Throwable {
+    Order order = new Order();
+
+    assertThat(read("order", order, 3)).isSameAs(order);
+    assertThat(read("priority", order, 3)).isEqualTo(3);
+  }
+
+  @Test
+  void resolvesParameterByIndex() throws Throwable {
+    assertThat(read("1", new Order(), 7)).isEqualTo(7);
+    assertThat(read("0.code", new Order(), 7)).isEqualTo("field");
+  }
+
+  @Test
+  void resolvesParameterByIndexWithoutParameterNames() throws Throwable {
+    CompiledFieldPath path = FieldPathCompiler.compile(method, null, "0.code");
+
+    assertThat(path.read(new Object[] {new Order(), 1})).isEqualTo("field");
+  }
+
+  @Test
+  void prefersGetterOverAccessorAndField() throws Throwable {
+    assertThat(read("order.name", new Order(), 0)).isEqualTo("getter");
+  }
+
+  @Test
+  void prefersAccessorOverField() throws Throwable {
+    assertThat(read("order.label", new Order(), 0)).isEqualTo("accessor");
+  }
+
+  @Test
+  void fallsBackToNonPublicAndInheritedFields() throws Throwable {
+    assertThat(read("order.code", new Order(), 0)).isEqualTo("field");
+    assertThat(read("order.tenant", new Order(), 0)).isEqualTo("inherited");
+  }
+
+  @Test
+  void resolvesBooleanGetter() throws Throwable {
+    assertThat(read("order.active", new Order(), 0)).isEqualTo(true);
+  }
+
+  @Test
+  void resolvesMethodCallsAndNestedPaths() throws Throwable {
+    assertThat(read("order.items.size()", new Order(), 0)).isEqualTo(2);
+    assertThat(read("order.customer.name", new Order(), 0)).isEqualTo("Ada");
+  }
+
+  @Test
+  void returnsNullWhenAnIntermediateValueIsNull() throws Throwable {
+    Order order = new Order();
+    order.customer = null;
+
+    assertThat(read("order.customer.name", order, 0)).isNull();
+    assertThat(read("order.customer.name", null, 0)).isNull();
+  }
+
+  @Test
+  void propagatesExceptionsThrownByAccessors() {
+    CompiledFieldPath path = FieldPathCompiler.compile(method, PARAMETER_NAMES, "order.failing");
+
+    assertThatThrownBy(() -> path.read(new Object[] {new Order(), 0}))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void rejectsEmptyExpressions() {
+    assertInvalid(null, "expression cannot be null or empty");
+    assertInvalid(" ", "expression cannot be null or empty");
+  }
+
+  @Test
+  void rejectsUnknownParameters() {
+    assertInvalid("missing.name", "no parameter named or indexed 'missing'");
+    assertInvalid("2", "no parameter named or indexed '2'");
+  }
+
+  @Test
+  void rejectsEmptySegments() {
+    assertInvalid("order..name", "empty path segment");
+    assertInvalid("order.", "empty path segment");
+  }
+
+  @Test
+  void rejectsNavigationIntoPrimitives() {
+    assertInvalid("priority.value", "cannot navigate into primitive type int");
+  }
+
+  @Test
+  void rejectsUnknownMembers() {
+    assertInvalid("order.missing", "no property 'missing'");
+    assertInvalid("order.missing()", "no method missing()");
+  }
+
+  private Object read(String expression, Object... args) throws Throwable {
+    return FieldPathCompiler.compile(method, PARAMETER_NAMES, expression).read(args);
+  }
+
+  private void assertInvalid(String expression, String reason) {
+    assertThatThrownBy(() -> FieldPathCompiler.compile(method, PARAMETER_NAMES, expression))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid capture field '" + expression + "'")
+        .hasMessageContaining(reason);
+  }
+
+  static class Service {
+
+    void handle(Order order, int priority) {}
+  }
+
+  static class Customer {
+
+    private final String name = "Ada";
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  static class BaseOrder {
+
+    private final String tenant = "inherited";
+  }
+
+  static class Order extends BaseOrder {
+
+    public String name = "field";
+    public String label = "field";
+    private final String code = "field";
+    private final List<String> items = List.of("a", "b");
+    private Customer customer = new Customer();
+
+    public String getName() {
+      return "getter";
+    }
+
+    public String name() {
+      return "accessor";
+    }
+
+    public String label() {
+      return "accessor";
+    }
+
+    public boolean isActive() {
+      return true;
+    }
+
+    public List<String> getItems() {
+      return items;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("boom");
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.ducks.synaptra.log.capture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ducks.synaptra.log.serializer.JacksonJsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link MethodHandleArgumentCapturer}. */
+class MethodHandleArgumentCapturerTest {
+
+  private MethodHandleArgumentCapturer capturer;
+  private Method method;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    capturer = new MethodHandleArgumentCapturer(new JacksonJsonSerializer(new ObjectMapper()));
+    method = Service.class.getDeclaredMethod("handle", Request.class, String.class);
+  }
+
+  @Test
+  void rendersScalarsAsTextAndOtherValuesAsJson() {
+    Map<String, String> captured =
+        capturer.capture(
+            method, new String[] {"0.id", "0.tags", "1"}, new Object[] {new Request(), null});
+
+    assertThat(captured)
+        .containsExactly(
+            Map.entry("0.id", "42"), Map.entry("0.tags", "[\"a\",\"b\"]"), Map.entry("1", "null"));
+  }
+
+  @Test
+  void skipsExpressionsThatCannotBeCompiled() {
+    Map<String, String> captured =
+        capturer.capture(
+            method,
+            new String[] {"0.missing", "0.id", "5", "1.missing"},
+            new Object[] {new Request(), "user"});
+
+    assertThat(captured).containsExactly(Map.entry("0.id", "42"));
+  }
+
+  @Test
+  void rendersAccessorFailuresInPlaceOfTheValue() {
+    Map<String, String> captured =
+        capturer.capture(method, new String[] {"0.failing"}, new Object[] {new Request(), "user"});
+
+    assertThat(captured).containsExactly(Map.entry("0.failing", "<error: IllegalStateException>"));
+  }
+
+  static class Service {
+
+    void handle(Request request, String user) {}
+  }
+
+  static class Request {
+
+    public long getId() {
+      return 42;
+    }
+
+    public List<String> getTags() {
+      return List.of("a", "b");
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("boom");
+    }
+  }
+}
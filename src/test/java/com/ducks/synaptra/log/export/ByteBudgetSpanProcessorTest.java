@@ -0,0 +1,235 @@
+package com.ducks.synaptra.log.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link ByteBudgetSpanProcessor}. */
+class ByteBudgetSpanProcessorTest {
+
+  private static final long LARGE_BUDGET = 1024 * 1024;
+  private static final long SMALL_BUDGET = 1024;
+  private static final String LARGE_PAYLOAD = "args - " + "x".repeat(10_000);
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private final RecordingExporter exporter = new RecordingExporter();
+
+  private ByteBudgetSpanProcessor processor;
+  private SdkTracerProvider tracerProvider;
+
+  @AfterEach
+  void tearDown() {
+    exporter.release();
+    tracerProvider.shutdown().join(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void exportsSpansWithinBudgetAndReleasesTheBudget() {
+    start(LARGE_BUDGET, OverflowPolicy.STRIP_PAYLOAD);
+
+    endSpan("payload", LARGE_PAYLOAD);
+    flush();
+
+    assertThat(exporter.spanNames()).containsExactly("payload");
+    assertThat(exporter.exported.get(0).getEvents()).hasSize(1);
+    assertThat(processor.getQueuedBytes()).isZero();
+    assertThat(processor.getStrippedSpans()).isZero();
+    assertThat(processor.getDroppedSpans()).isZero();
+  }
+
+  @Test
+  void stripsPayloadEventsOfSpansOverBudget() {
+    start(SMALL_BUDGET, OverflowPolicy.STRIP_PAYLOAD);
+
+    endSpan("large", LARGE_PAYLOAD);
+    flush();
+
+    assertThat(exporter.spanNames()).containsExactly("large");
+    SpanData span = exporter.exported.get(0);
+    assertThat(span.getEvents()).isEmpty();
+    assertThat(span.getAttributes().get(AttributeKey.booleanKey("synaptra.payload.stripped")))
+        .isTrue();
+    assertThat(processor.getStrippedSpans()).isEqualTo(1);
+    assertThat(processor.getDroppedSpans()).isZero();
+  }
+
+  @Test
+  void dropsSpansOverBudgetWithDropPolicy() {
+    start(SMALL_BUDGET, OverflowPolicy.DROP_SPAN);
+
+    endSpan("large", LARGE_PAYLOAD);
+    endSpan("small", null);
+    flush();
+
+    assertThat(exporter.spanNames()).containsExactly("small");
+    assertThat(processor.getStrippedSpans()).isZero();
+    assertThat(processor.getDroppedSpans()).isEqualTo(1);
+  }
+
+  @Test
+  void holdsTheBudgetAndTheFlushUntilTheExportCompletes() throws InterruptedException {
+    start(LARGE_BUDGET, OverflowPolicy.STRIP_PAYLOAD);
+    exporter.hold();
+
+    endSpan("held", null);
+    CompletableResultCode flush = processor.forceFlush();
+    exporter.awaitExport();
+
+    assertThat(flush.isDone()).isFalse();
+    assertThat(processor.getQueuedBytes()).isPositive();
+
+    exporter.release();
+    assertThat(flush.join(TIMEOUT_SECONDS, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(processor.getQueuedBytes()).isZero();
+  }
+
+  @Test
+  void completesConcurrentFlushesAfterTheirOwnSpans() throws Exception {
+    start(LARGE_BUDGET, OverflowPolicy.STRIP_PAYLOAD);
+    int threads = 8;
+    int spansPerThread = 50;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<List<String>>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        String prefix = "thread-" + t + "-";
+        results.add(
+            executor.submit(
+                () -> {
+                  List<String> missing = new ArrayList<>();
+                  for (int i = 0; i < spansPerThread; i++) {
+                    String name = prefix + i;
+                    endSpan(name, null);
+                    flush();
+                    if (!exporter.spanNames().contains(name)) {
+                      missing.add(name);
+                    }
+                  }
+                  return missing;
+                }));
+      }
+
+      for (Future<List<String>> result : results) {
+        assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEmpty();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(exporter.exported).hasSize(threads * spansPerThread);
+  }
+
+  @Test
+  void shutsTheExporterDownOnlyAfterTheExportInFlight() throws InterruptedException {
+    start(LARGE_BUDGET, OverflowPolicy.STRIP_PAYLOAD);
+    exporter.hold();
+
+    endSpan("in-flight", null);
+    processor.forceFlush();
+    exporter.awaitExport();
+    CompletableResultCode shutdown = processor.shutdown();
+    endSpan("after-shutdown", null);
+
+    Thread.sleep(50);
+    assertThat(shutdown.isDone()).isFalse();
+    assertThat(exporter.calls).containsExactly("export");
+
+    exporter.release();
+    assertThat(shutdown.join(TIMEOUT_SECONDS, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(exporter.calls).containsExactly("export", "export completed", "shutdown");
+    assertThat(exporter.spanNames()).containsExactly("in-flight");
+    assertThat(processor.forceFlush()).isSameAs(shutdown);
+  }
+
+  private void start(long maxQueuedBytes, OverflowPolicy overflowPolicy) {
+    processor =
+        new ByteBudgetSpanProcessor(
+            exporter,
+            maxQueuedBytes,
+            overflowPolicy,
+            512,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(TIMEOUT_SECONDS));
+    tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+  }
+
+  private void endSpan(String name, String payload) {
+    Span span = tracerProvider.get("test").spanBuilder(name).startSpan();
+    if (payload != null) {
+      span.addEvent(payload);
+    }
+    span.end();
+  }
+
+  private void flush() {
+    assertThat(processor.forceFlush().join(TIMEOUT_SECONDS, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  /** Exporter recording exported spans, whose results can be held until released. */
+  private static final class RecordingExporter implements SpanExporter {
+
+    private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+    private final CountDownLatch exportStarted = new CountDownLatch(1);
+    private volatile CompletableResultCode heldResult;
+
+    /** Makes subsequent exports complete only when {@link #release()} is called. */
+    void hold() {
+      CompletableResultCode result = new CompletableResultCode();
+      result.whenComplete(() -> calls.add("export completed"));
+      heldResult = result;
+    }
+
+    void release() {
+      CompletableResultCode result = heldResult;
+      if (result != null) {
+        result.succeed();
+      }
+    }
+
+    void awaitExport() throws InterruptedException {
+      assertThat(exportStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    List<String> spanNames() {
+      return exported.stream().map(SpanData::getName).toList();
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      exported.addAll(spans);
+      calls.add("export");
+      exportStarted.countDown();
+      CompletableResultCode result = heldResult;
+      return result != null ? result : CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      calls.add("shutdown");
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
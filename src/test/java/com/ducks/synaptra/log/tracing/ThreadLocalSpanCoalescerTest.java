@@ -0,0 +1,115 @@
+package com.ducks.synaptra.log.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.tracing.Span;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link ThreadLocalSpanCoalescer}. */
+class ThreadLocalSpanCoalescerTest {
+
+  private SpanManager spanManager;
+  private ThreadLocalSpanCoalescer coalescer;
+
+  private final Span parent = mock(Span.class, "parent");
+  private final Span child = mock(Span.class, "child");
+  private final Span grandchild = mock(Span.class, "grandchild");
+
+  @BeforeEach
+  void setUp() {
+    spanManager = mock(SpanManager.class);
+    coalescer = new ThreadLocalSpanCoalescer(spanManager);
+  }
+
+  @Test
+  void attachesNumericStatisticsOfDirectChildrenToTheParent() {
+    coalescer.enter(parent);
+    recordChild(child, 3_000, false);
+    recordChild(mock(Span.class), 1_000, true);
+    recordChild(mock(Span.class), 2_000, false);
+    coalescer.exit(parent);
+
+    verify(spanManager).tag(parent, "coalesced.leaf.count", 3L);
+    verify(spanManager).tag(parent, "coalesced.leaf.total_us", 6L);
+    verify(spanManager).tag(parent, "coalesced.leaf.min_us", 1L);
+    verify(spanManager).tag(parent, "coalesced.leaf.max_us", 3L);
+    verify(spanManager).tag(parent, "coalesced.leaf.errors", 1L);
+  }
+
+  @Test
+  void doesNotRecordRootInvocations() {
+    coalescer.enter(parent);
+    coalescer.exit(parent);
+
+    assertThat(coalescer.record(parent, "root", 1_000, false)).isFalse();
+    verifyNoInteractions(spanManager);
+  }
+
+  @Test
+  void recordsGrandchildrenOnTheirOwnParentOnly() {
+    coalescer.enter(parent);
+    coalescer.enter(child);
+    recordChild(grandchild, 1_000, false);
+    coalescer.exit(child);
+    coalescer.exit(parent);
+
+    verify(spanManager).tag(child, "coalesced.leaf.count", 1L);
+    verify(spanManager, never()).tag(eq(parent), anyString(), anyLong());
+  }
+
+  @Test
+  void doesNotRecordSpansOtherThanTheLastExitedOne() {
+    coalescer.enter(parent);
+    coalescer.enter(child);
+    coalescer.exit(child);
+
+    assertThat(coalescer.record(grandchild, "leaf", 1_000, false)).isFalse();
+    assertThat(coalescer.record(child, "leaf", 1_000, false)).isFalse();
+    coalescer.exit(parent);
+  }
+
+  @Test
+  void doesNotRecordChildrenOfAFrameThatIsNoLongerOpen() {
+    coalescer.enter(parent);
+    coalescer.enter(child);
+    coalescer.enter(grandchild);
+    // Exiting the parent unwinds the frames left open above it
+    coalescer.exit(parent);
+    coalescer.exit(grandchild);
+
+    assertThat(coalescer.record(grandchild, "leaf", 1_000, false)).isFalse();
+  }
+
+  @Test
+  void doesNotRecordInvocationsOnOtherThreads() {
+    coalescer.enter(parent);
+
+    boolean recorded =
+        CompletableFuture.supplyAsync(
+                () -> {
+                  coalescer.enter(child);
+                  coalescer.exit(child);
+                  return coalescer.record(child, "leaf", 1_000, false);
+                })
+            .join();
+    coalescer.exit(parent);
+
+    assertThat(recorded).isFalse();
+    verifyNoInteractions(spanManager);
+  }
+
+  private void recordChild(Span span, long durationNanos, boolean error) {
+    coalescer.enter(span);
+    coalescer.exit(span);
+    assertThat(coalescer.record(span, "leaf", durationNanos, error)).isTrue();
+  }
+}